@@ -1,12 +1,18 @@
 /// Copyright © 2026 William David Louth
 package io.humainary.substrates.api;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.lang.annotation.Documented;
 import java.lang.annotation.Retention;
 import java.lang.annotation.Target;
 import java.lang.reflect.Member;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
 import java.time.Duration;
 import java.util.*;
+import java.util.concurrent.CompletionStage;
 import java.util.function.*;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
@@ -314,9 +320,48 @@ public interface Substrates {
   /// same-kind named resources, such as a set of conduits with the same emission
   /// type and routing behavior.
   ///
+  /// ## Bounded Banks
+  ///
+  /// A bank created with [Circuit#bank(Class, Routing, int)] or
+  /// [Circuit#bank(Class, Routing, int, Duration)] holds a bounded number of
+  /// resources. When a lookup would exceed the capacity, the resource used
+  /// least recently (approximately — providers may use a CLOCK scan) is
+  /// evicted; with an idle duration, a resource neither looked up nor emitted
+  /// into for that long is evicted as well. A resource is used when it is
+  /// returned by [#get(Name)] or when one of its pipes is emitted into. An
+  /// emission skipped on the caller thread because its channel is quiet (see
+  /// [Conduit] — Quiet Channels) still counts as use, so a conduit that keeps
+  /// receiving emissions is never idle-evicted merely for lacking subscribers.
+  ///
+  /// Eviction closes the resource on the circuit thread, with the same effect
+  /// as closing it directly, and removes it from the bank. A later lookup of
+  /// the same name materializes a new resource, so identity holds only between
+  /// evictions: callers of a bounded bank should look resources up when they
+  /// need them rather than retain them.
+  ///
+  /// Nothing attached to an evicted resource carries over to its replacement.
+  /// Closing a conduit closes its subscriptions, so the conduit materialized
+  /// after an eviction starts with no subscribers. Code that subscribes to a
+  /// banked conduit must subscribe again when a lookup returns a conduit other
+  /// than the one it subscribed to, or use an unbounded bank.
+  ///
+  /// Eviction is atomic with respect to lookup: removing a resource from the
+  /// bank and closing it happen as one step, so a concurrent [#get(Name)]
+  /// either returns the resource before the eviction, still open, or
+  /// materializes its replacement after it. A lookup never returns a closed
+  /// resource. A reference already returned can still be closed by a later
+  /// eviction, which is why callers should not retain it.
+  ///
+  /// The bank's [Subject#state()] reports `bank.size` (`int`),
+  /// `bank.capacity` (`int`), and `long` counts `bank.hits`, `bank.misses`,
+  /// and `bank.evictions` since the bank was created. An unbounded bank reports
+  /// the same slots with `bank.capacity` of [Integer#MAX_VALUE] and no
+  /// evictions.
+  ///
   /// @param <R> the resource type returned by this bank
   /// @see Circuit#bank(Class)
   /// @see Circuit#bank(Class, Routing)
+  /// @see Circuit#bank(Class, Routing, int, Duration)
   /// @see Lookup
   /// @since 2.4
 
@@ -664,6 +709,85 @@ public interface Substrates {
   }
 
 
+  /// A description of a circuit checkpoint file.
+  ///
+  /// A checkpoint is a binary snapshot of the state owned by a circuit, taken
+  /// by [Circuit#checkpoint(Path, Codec)] and applied at creation by
+  /// [Options#restore(Path, Codec)]. The description is returned when a
+  /// checkpoint completes and can be read back from a file with
+  /// [Cortex#checkpoint(Path)] without restoring it.
+  ///
+  /// When the circuit was journaled, [#sequence()] is the last journal record
+  /// the checkpoint reflects. Restoring the checkpoint and then replaying the
+  /// journal from `sequence() + 1` reproduces the recorded run without replaying
+  /// it from the beginning:
+  ///
+  /// ```java
+  /// var checkpoint = cortex.checkpoint ( file );
+  /// var circuit =
+  ///   cortex.circuit (
+  ///     name,
+  ///     cortex.options ().clock ( Clock.MANUAL ).restore ( file, codec )
+  ///   );
+  /// // rebuild the topology in the recorded order, then
+  /// circuit.replay ( journal, pipes, checkpoint.sequence () + 1, journal.last () );
+  /// ```
+  ///
+  /// @see Circuit#checkpoint(Path, Codec)
+  /// @see Options#restore(Path, Codec)
+  /// @since 3.0
+
+  @Tenure ( Tenure.EPHEMERAL )
+  @Immutable
+  @Provided
+  interface Checkpoint {
+
+    /// Returns the size of the checkpoint file in bytes.
+    ///
+    /// @return the size of the file
+
+    long bytes ();
+
+
+    /// Returns the number of state entries written to the checkpoint.
+    ///
+    /// Each cell, port, pin, basin, and stateful operator materialization
+    /// counts as one entry.
+    ///
+    /// @return the number of state entries
+
+    int entries ();
+
+
+    /// Returns the checkpoint file.
+    ///
+    /// @return the file holding the checkpoint
+
+    @NotNull
+    Path file ();
+
+
+    /// Returns the last journal sequence reflected by the checkpoint.
+    ///
+    /// @return the sequence of the last journaled emission processed before the
+    ///         checkpoint, or `-1` if the circuit was not journaled or had
+    ///         journaled nothing
+
+    long sequence ();
+
+
+    /// Returns the circuit's processing time when the checkpoint was taken.
+    ///
+    /// A [Clock#MANUAL] circuit restored from the checkpoint starts at this
+    /// time.
+    ///
+    /// @return the processing time in nanoseconds
+
+    long time ();
+
+  }
+
+
   /// A computational network of conduits, pipes, and subscribers.
   /// Circuit serves as the central processing engine that manages data flow across
   /// the system, providing precise ordering guarantees for emitted events and
@@ -705,6 +829,8 @@ public interface Substrates {
   ///       When multiple caller threads emit concurrently, the relative ordering of their
   ///       emissions depends on the ingress queue's synchronization and may differ across
   ///       runs; determinism applies to the total observed sequence within a single run.
+  ///       A batch submitted through [Pipe#emit(Object\[\],int,int)] is accepted as one
+  ///       contiguous unit: no other caller's emission is interleaved within it.
   /// - **Circuit-thread confinement**: State touched only from the circuit thread requires
   ///       no additional synchronization. The circuit thread is the sole accessor of circuit-confined state.
   /// - **Bounded enqueue cost**: Caller threads do not execute circuit work but may briefly
@@ -740,6 +866,59 @@ public interface Substrates {
   /// When processing transit work that itself emits, those emissions are added to the **back of
   /// the transit queue** (not recursively invoked), maintaining the iterative queue-based model.
   ///
+  /// ## Time
+  ///
+  /// Each circuit keeps a single timer for the work that must happen without an
+  /// emission to trigger it: [Ticker]s, and the idle checks of bounded banks
+  /// and reclaiming conduits. The timer is a hashed wheel: scheduling and
+  /// cancelling an entry are constant-time, and no thread exists per ticker.
+  ///
+  /// Temporal operators such as [Fiber#every(Duration)],
+  /// [Fiber#heartbeat(Duration)], and [Flow#window(Duration, int)] are not timer
+  /// entries. They are emission-driven: each compares the processing time of
+  /// the emission reaching it with the time it last recorded, and acts only
+  /// then. They schedule nothing, so a temporal operator on every channel of a
+  /// large conduit costs no timer state, and a silent channel does nothing
+  /// until its next emission.
+  ///
+  /// Temporal operators observe the circuit's *processing time*, whose source is
+  /// the circuit's [Clock]. By default it is read once per ingress job, shared by
+  /// the whole transit cascade of that job. With a resolution configured through
+  /// [Options#resolution(Duration)], processing time is instead the time of the
+  /// timer's most recent tick: the clock is read once per tick, and operators
+  /// read a cached value. Time then has the granularity of the resolution, which
+  /// bounds the timing error of every temporal operator on the circuit. A
+  /// [Clock#MANUAL] circuit never reads a real clock for processing time; it
+  /// moves only through [#advance(Duration)], which makes time-based output
+  /// reproducible.
+  ///
+  /// ## Circuit State
+  ///
+  /// The circuit's [Subject#state()] reports its configuration and runtime
+  /// counters as slots, read as a snapshot at call time:
+  ///
+  /// - `clock` — the [Clock] in effect
+  /// - `idle` — the [Idle] strategy in effect
+  /// - `idle.spins`, `idle.yields` — the backoff budgets (`int`; zero unless backoff)
+  /// - `idle.spun`, `idle.yielded`, `idle.parked` — `long` counts of idle spin
+  ///   iterations, yields, and parks since the circuit started
+  /// - `journal.sequence` (`long`), `journal.bytes` (`long`), `journal.failed`
+  ///   (`boolean`) — the last appended sequence number, the bytes appended, and
+  ///   whether the journal has failed, when a journal is configured
+  ///
+  /// Counters are written by the worker and read without synchronization; a
+  /// snapshot may be slightly stale but each value is monotonic.
+  ///
+  /// When the latency recorder is enabled through [Options#latency(Duration)],
+  /// the circuit also emits a [State] to its own subscribers at the end of each
+  /// recording interval, on the circuit thread. The state carries `long`
+  /// nanosecond slots `latency.queue.p50`, `latency.queue.p99`,
+  /// `latency.queue.p999`, `latency.queue.max` and the same four for
+  /// `latency.service`, plus `latency.count` (`long`), the number of jobs
+  /// recorded in the interval. An interval with no jobs publishes zeros. Unlike
+  /// a [Pulse], which measures one probe on demand, the recorder covers every
+  /// job continuously and needs no external polling thread.
+  ///
   /// ## Performance Expectations
   ///
   /// The API is designed for ultra-low-latency emission paths. Implementations should minimize
@@ -755,6 +934,33 @@ public interface Substrates {
   interface Circuit
     extends Source < State, Circuit > {
 
+    /// Advances the processing time of a [Clock#MANUAL] circuit.
+    ///
+    /// The advance is queued like an emission and takes effect in ingress
+    /// order: work admitted before it observes the earlier time, work admitted
+    /// after it observes the later time. When the advance is processed, every
+    /// timer entry due within the advanced span — ticker grid points and idle
+    /// checks (see [Circuit] — Time) — fires in due order (ties in scheduling
+    /// order), each observing its own due time as the processing time, before
+    /// the circuit moves on. Tickers fire at every grid point crossed — there is
+    /// no re-anchoring in manual time, because no scheduling stall can occur.
+    /// Temporal operators schedule nothing; they see the advanced time on the
+    /// next emission that reaches them. A zero `delta` is a no-op.
+    ///
+    /// @param delta the amount of processing time to advance by; must not be negative
+    /// @throws NullPointerException     if delta is `null`
+    /// @throws IllegalArgumentException if delta is negative
+    /// @throws IllegalStateException    if this circuit was not created with [Clock#MANUAL]
+    /// @see Clock#MANUAL
+    /// @see Options#clock(Clock)
+    /// @since 3.0
+
+    @Queued
+    void advance (
+      @NotNull Duration delta
+    );
+
+
     /// Blocks until every operation enqueued before this call has been processed,
     /// establishing a happens-before relationship with all of them.
     ///
@@ -781,10 +987,75 @@ public interface Substrates {
     /// already-accepted lifecycle and barrier work to complete.
     ///
     /// @throws IllegalStateException if called from within the circuit's thread
+    /// @see #await(Duration)
+    /// @see #awaitAsync()
 
     void await ();
 
 
+    /// Blocks until every operation enqueued before this call has been processed,
+    /// or until the timeout elapses.
+    ///
+    /// Same barrier as [#await()], bounded in time. The barrier token is
+    /// enqueued either way; on timeout the caller stops waiting but the token
+    /// is still processed in order, so a timed-out call does not disturb the
+    /// circuit. A zero or negative timeout does not wait. If the calling thread
+    /// is interrupted while waiting, the method returns `false` with the
+    /// thread's interrupt status set.
+    ///
+    /// @param timeout the maximum time to wait
+    /// @return `true` if the barrier was reached, `false` if the timeout elapsed
+    ///         or the caller was interrupted first
+    /// @throws NullPointerException  if timeout is `null`
+    /// @throws IllegalStateException if called from within the circuit's thread
+    /// @see #await()
+    /// @since 3.0
+
+    boolean await (
+      @NotNull Duration timeout
+    );
+
+
+    /// Returns a stage that completes once every operation enqueued before this
+    /// call has been processed.
+    ///
+    /// The non-blocking form of [#await()]. The call enqueues a barrier token and
+    /// returns at once; no thread is parked on the caller's behalf. When the
+    /// worker reaches the token, the stage completes normally, establishing the
+    /// same happens-before relationship as [#await()] for actions that depend on
+    /// it. Barriers on many circuits can therefore be joined concurrently:
+    ///
+    /// ```java
+    /// CompletableFuture.allOf (
+    ///   circuits.stream ()
+    ///     .map ( Circuit::awaitAsync )
+    ///     .map ( CompletionStage::toCompletableFuture )
+    ///     .toArray ( CompletableFuture[]::new )
+    /// ).join ();
+    /// ```
+    ///
+    /// ## Completion Thread
+    ///
+    /// The stage is completed on the circuit thread. Dependent actions attached
+    /// with the non-async methods of [CompletionStage] may run there and must be
+    /// brief and non-blocking; attach heavier work with the `*Async` variants.
+    ///
+    /// ## Circuit Thread and Shutdown
+    ///
+    /// Unlike [#await()], this method may be called from the circuit thread: the
+    /// token joins the ingress queue and the stage completes after the ingress
+    /// work accepted before it. Once the circuit is Closed the returned stage is
+    /// already complete; tokens accepted before the close job complete normally
+    /// as the queue drains.
+    ///
+    /// @return A stage completing when the barrier is reached
+    /// @see #await()
+    /// @since 3.0
+
+    @NotNull
+    CompletionStage < Void > awaitAsync ();
+
+
     /// Returns a name-indexed bank of conduits with this circuit's default routing.
     ///
     /// The returned bank creates conduits lazily and caches them by name. Repeated
@@ -861,6 +1132,64 @@ public interface Substrates {
     );
 
 
+    /// Returns a name-indexed bank of conduits holding at most `capacity` conduits.
+    ///
+    /// Equivalent to [#bank(Class, Routing)] except that the bank is bounded:
+    /// when a lookup materializes a conduit beyond `capacity`, the least
+    /// recently used conduit is closed and evicted, together with its
+    /// subscriptions. See [Bank] — Bounded Banks.
+    ///
+    /// @param type     the class type of emitted values (used for type inference)
+    /// @param routing  controls how emissions are dispatched within banked conduits
+    /// @param capacity the maximum number of conduits held by the bank
+    /// @param <E>      the class type of emitted values
+    /// @return A bounded bank of conduits using this circuit for emission processing
+    /// @throws NullPointerException     if type or routing is `null`
+    /// @throws IllegalArgumentException if capacity is less than 1
+    /// @throws Fault                    if this circuit has been closed
+    /// @see #bank(Class, Routing, int, Duration)
+    /// @see Bank
+    /// @since 3.0
+
+    @New
+    @NotNull
+    < E > Bank < Conduit < E > > bank (
+      @NotNull Class < E > type,
+      @NotNull Routing routing,
+      int capacity
+    );
+
+
+    /// Returns a name-indexed bank of conduits bounded by size and idle time.
+    ///
+    /// Equivalent to [#bank(Class, Routing, int)] except that a conduit that has
+    /// been neither looked up nor emitted into for `idle` is also closed and
+    /// evicted. Idle expiry is checked on the circuit's timer (see [Circuit] —
+    /// Time), so an idle conduit is evicted within one timer tick of expiring.
+    /// Pass [Integer#MAX_VALUE] as `capacity` to bound by idle time only.
+    ///
+    /// @param type     the class type of emitted values (used for type inference)
+    /// @param routing  controls how emissions are dispatched within banked conduits
+    /// @param capacity the maximum number of conduits held by the bank
+    /// @param idle     the time a conduit may go unused before it is evicted; must be positive
+    /// @param <E>      the class type of emitted values
+    /// @return A bounded bank of conduits using this circuit for emission processing
+    /// @throws NullPointerException     if type, routing, or idle is `null`
+    /// @throws IllegalArgumentException if capacity is less than 1, or idle is zero or negative
+    /// @throws Fault                    if this circuit has been closed
+    /// @see Bank
+    /// @since 3.0
+
+    @New
+    @NotNull
+    < E > Bank < Conduit < E > > bank (
+      @NotNull Class < E > type,
+      @NotNull Routing routing,
+      int capacity,
+      @NotNull Duration idle
+    );
+
+
     /// Returns a basin owned by this circuit that retains the most recent
     /// `capacity` values emitted through its [Basin#pipe()].
     ///
@@ -952,6 +1281,59 @@ public interface Substrates {
     );
 
 
+    /// Writes a checkpoint of the state owned by this circuit to a file.
+    ///
+    /// The call enqueues a barrier job and returns at once. When the worker
+    /// reaches it — after the ingress work accepted before it and that work's
+    /// transit cascades — it serializes the circuit-owned state to `file` in a
+    /// compact binary form:
+    ///
+    /// - the current value of every [Cell], [Port], and [Pin]
+    /// - the buffered contents of every [Basin]
+    /// - the per-materialization state of stateful [Fiber] and [Flow] operators
+    ///   (for example `reduce`, `integrate`, `rolling`, `distinct`, `scan`)
+    /// - processing time, and the journal sequence when journaled
+    ///
+    /// Values are encoded with `codec`. Because the worker writes the file
+    /// between jobs, the checkpoint is a consistent cut of the circuit: every
+    /// emission is either fully reflected or not reflected at all. The circuit
+    /// processes nothing else while the checkpoint is written.
+    ///
+    /// Topology is not checkpointed. Conduits, subscriptions, and pipes are
+    /// rebuilt by application code after [Options#restore(Path, Codec)]; see
+    /// there for how state is matched to its owners.
+    ///
+    /// ## Completion
+    ///
+    /// The checkpoint is written to a temporary file in the same directory as
+    /// `file`, forced to storage, and then moved onto `file` with
+    /// [java.nio.file.StandardCopyOption#ATOMIC_MOVE] and
+    /// [java.nio.file.StandardCopyOption#REPLACE_EXISTING]. `file` therefore
+    /// always holds a complete checkpoint: the previous one until the move, the
+    /// new one after it. The stage completes on the circuit thread once the move
+    /// has been made, as for [#awaitAsync()]. If writing fails — the codec
+    /// throws, an I/O error occurs, or the file system cannot move atomically —
+    /// the stage completes exceptionally, the temporary file is deleted, `file`
+    /// keeps its previous checkpoint, and the circuit continues unaffected. May
+    /// be called from the circuit thread.
+    ///
+    /// @param file  the file to write; an existing checkpoint is replaced atomically
+    /// @param codec the codec encoding state values
+    /// @return A stage completing with a description of the written checkpoint
+    /// @throws NullPointerException if any argument is `null`
+    /// @throws Fault                if this circuit has been closed
+    /// @see Checkpoint
+    /// @see Options#restore(Path, Codec)
+    /// @since 3.0
+
+    @Queued
+    @NotNull
+    CompletionStage < Checkpoint > checkpoint (
+      @NotNull Path file,
+      @NotNull Codec < Object > codec
+    );
+
+
     /// Closes the circuit, releasing its processing thread and circuit-owned resources.
     ///
     /// ## Shutdown Process
@@ -1133,6 +1515,36 @@ public interface Substrates {
     );
 
 
+    /// Returns a conduit that reclaims channels left idle for a given duration.
+    ///
+    /// Identical to [#conduit(Name, Class, Routing)] except that the conduit
+    /// releases channels nobody is using, which keeps its pool bounded when
+    /// names are drawn from an open-ended set such as request, user, or host
+    /// identifiers. See [Conduit] — Channel Reclamation for which channels
+    /// qualify and how identity is relaxed.
+    ///
+    /// @param name    the name given to the conduit's subject
+    /// @param type    the class type of emitted values (used for type inference)
+    /// @param routing controls how emissions are dispatched within the conduit
+    /// @param idle    the time a channel must go without emissions before it may be reclaimed; must be positive
+    /// @param <E>     the class type of emitted values
+    /// @return A reclaiming conduit with the specified name and routing
+    /// @throws NullPointerException     if any parameter is `null`
+    /// @throws IllegalArgumentException if idle is zero or negative
+    /// @throws Fault                    if the name parameter is not a runtime-provided implementation, or if this circuit has been closed
+    /// @see Conduit
+    /// @since 3.0
+
+    @New
+    @NotNull
+    < E > Conduit < E > conduit (
+      @NotNull Name name,
+      @NotNull Class < E > type,
+      @NotNull Routing routing,
+      @NotNull Duration idle
+    );
+
+
     /// Returns the [Current] identifying this circuit's processing context.
     ///
     /// Comparing the value against [Cortex#current()] tells the caller whether
@@ -1160,97 +1572,380 @@ public interface Substrates {
     Current current ();
 
 
-    /// Returns a circuit-owned pin seeded with an initial value.
+    /// Returns a `double`-specialized conduit with the specified name and routing.
     ///
-    /// A [Pin] is an immediate-access handle to circuit-owned state, guarded by
-    /// the owning circuit context. Unlike [#port(Object)], which is queued and
-    /// exposes no read accessor, a Pin's [Pin#get()] and [Pin#set(Object)]
-    /// execute inline — but only when invoked from the owning circuit's
-    /// processing thread. Invocation from any other context raises
-    /// [IllegalStateException].
+    /// The `double` counterpart of [#longConduit(Name, Routing)].
     ///
-    /// Use Pin when circuit-local code needs "set X, then read X on the next
-    /// line" semantics, or when mutable in-place objects must be updated
-    /// under circuit-context confinement. Pin handles MAY be emitted as values
-    /// — the receiver may store or forward the handle but cannot dereference
-    /// it from outside the owning circuit.
+    /// @param name    the name given to the conduit's subject
+    /// @param routing controls how emissions are dispatched within the conduit
+    /// @return A `double` conduit with the specified name and routing
+    /// @throws NullPointerException if any parameter is `null`
+    /// @throws Fault                if the name parameter is not a runtime-provided implementation, or if this circuit has been closed
+    /// @see DoubleConduit
+    /// @since 3.0
+
+    @New
+    @NotNull
+    DoubleConduit doubleConduit (
+      @NotNull Name name,
+      @NotNull Routing routing
+    );
+
+
+    /// Returns a `double`-specialized conduit with the specified name and [Routing#PIPE] routing.
     ///
-    /// The returned Pin's subject inherits the owning circuit's name. Use
-    /// [#pin(Name, Object)] for an explicit subject name.
+    /// @param name the name given to the conduit's subject
+    /// @return A `double` conduit with the specified name
+    /// @throws NullPointerException if name is `null`
+    /// @throws Fault                if the name parameter is not a runtime-provided implementation, or if this circuit has been closed
+    /// @see #doubleConduit(Name, Routing)
+    /// @since 3.0
+
+    @New
+    @NotNull
+    default DoubleConduit doubleConduit (
+      @NotNull final Name name
+    ) {
+
+      requireNonNull ( name );
+
+      return doubleConduit (
+        name,
+        Routing.PIPE
+      );
+
+    }
+
+
+    /// Returns a circuit-owned `double` pipe that delivers emissions to the receptor.
     ///
-    /// @param initial the seed value
-    /// @param <E>     the type of state held by the pin
-    /// @return A new seeded pin owned by this circuit
-    /// @throws NullPointerException if initial is `null`
+    /// The `double` counterpart of [#longPipe(LongReceptor)].
+    ///
+    /// @param receptor the receptor invoked on this circuit's processing thread
+    /// @return A circuit-owned pipe that delivers queued emissions to the receptor
+    /// @throws NullPointerException if receptor is `null`
     /// @throws Fault                if this circuit has been closed
-    /// @see Pin
-    /// @see #pin(Name, Object)
-    /// @since 2.9
+    /// @see DoublePipe
+    /// @since 3.0
 
     @New
     @NotNull
-    < E > Pin < E > pin (
-      @NotNull E initial
+    DoublePipe doublePipe (
+      @NotNull @Queued DoubleReceptor receptor
     );
 
 
-    /// Returns a named circuit-owned pin seeded with an initial value.
+    /// Returns a named circuit-owned `double` pipe that delivers emissions to the receptor.
     ///
-    /// Same semantics as [#pin(Object)] but binds the supplied name to the
-    /// returned Pin's subject. The name must have been obtained from this
-    /// runtime's [Cortex]; passing a name created by a different provider
-    /// raises [Fault].
+    /// The `double` counterpart of [#longPipe(Name, LongReceptor)].
     ///
-    /// @param name    the name assigned to the returned pin's subject
-    /// @param initial the seed value
-    /// @param <E>     the type of state held by the pin
-    /// @return A new named seeded pin owned by this circuit
+    /// @param name     the name assigned to the returned pipe's subject
+    /// @param receptor the receptor invoked on this circuit's processing thread
+    /// @return A named circuit-owned pipe that delivers queued emissions to the receptor
     /// @throws NullPointerException if any argument is `null`
-    /// @throws Fault                if the name parameter is not a runtime-provided implementation, or if this circuit has been closed
-    /// @see Pin
-    /// @see #pin(Object)
-    /// @since 2.9
+    /// @throws Fault                if name is not from this runtime provider, or if this circuit has been closed
+    /// @see DoublePipe
+    /// @since 3.0
 
     @New
     @NotNull
-    < E > Pin < E > pin (
+    DoublePipe doublePipe (
       @NotNull Name name,
-      @NotNull E initial
+      @NotNull @Queued DoubleReceptor receptor
     );
 
 
-    /// Returns a pipe that queues emissions on this circuit but performs no work
-    /// when they are processed.
-    ///
-    /// The returned pipe adheres to the circuit's queue processing: each call to
-    /// [Pipe#emit(Object)] enqueues a job on the circuit's queue. When the job is
-    /// dequeued on the circuit thread it is a no-op — the emission is discarded.
-    ///
-    /// This is the concise form of `circuit.pipe(Receptor.of())` — same timing,
-    /// ordering, and `await()` semantics, without allocating a receptor wrapper.
+    /// Returns an `int`-specialized conduit with the specified name and routing.
     ///
-    /// ## Use Cases
+    /// The `int` counterpart of [#longConduit(Name, Routing)].
     ///
-    /// - Sink / black-hole pipe in tests and benchmarks
-    /// - Placeholder where a circuit-owned pipe is required but no processing is needed
-    /// - Back-pressure point: scheduled work still consumes queue capacity
+    /// @param name    the name given to the conduit's subject
+    /// @param routing controls how emissions are dispatched within the conduit
+    /// @return An `int` conduit with the specified name and routing
+    /// @throws NullPointerException if any parameter is `null`
+    /// @throws Fault                if the name parameter is not a runtime-provided implementation, or if this circuit has been closed
+    /// @see IntConduit
+    /// @since 3.0
+
+    @New
+    @NotNull
+    IntConduit intConduit (
+      @NotNull Name name,
+      @NotNull Routing routing
+    );
+
+
+    /// Returns an `int`-specialized conduit with the specified name and [Routing#PIPE] routing.
     ///
-    /// @param <E> the class type of emitted values
-    /// @return A pipe that queues emissions on this circuit and discards them
-    /// @see Pipe
-    /// @see Receptor#NOOP
-    /// @since 2.3
+    /// @param name the name given to the conduit's subject
+    /// @return An `int` conduit with the specified name
+    /// @throws NullPointerException if name is `null`
+    /// @throws Fault                if the name parameter is not a runtime-provided implementation, or if this circuit has been closed
+    /// @see #intConduit(Name, Routing)
+    /// @since 3.0
 
     @New
     @NotNull
-    < E > Pipe < E > pipe ();
+    default IntConduit intConduit (
+      @NotNull final Name name
+    ) {
 
+      requireNonNull ( name );
 
-    /// Returns a pipe that admits emissions through this circuit before forwarding
-    /// them to `target`.
+      return intConduit (
+        name,
+        Routing.PIPE
+      );
+
+    }
+
+
+    /// Returns a circuit-owned `int` pipe that delivers emissions to the receptor.
     ///
-    /// Use this as a circuit hop: the returned pipe is owned by this circuit, so
-    /// calls to [Pipe#emit(Object)] are queued on this circuit. When this circuit
+    /// The `int` counterpart of [#longPipe(LongReceptor)].
+    ///
+    /// @param receptor the receptor invoked on this circuit's processing thread
+    /// @return A circuit-owned pipe that delivers queued emissions to the receptor
+    /// @throws NullPointerException if receptor is `null`
+    /// @throws Fault                if this circuit has been closed
+    /// @see IntPipe
+    /// @since 3.0
+
+    @New
+    @NotNull
+    IntPipe intPipe (
+      @NotNull @Queued IntReceptor receptor
+    );
+
+
+    /// Returns a named circuit-owned `int` pipe that delivers emissions to the receptor.
+    ///
+    /// The `int` counterpart of [#longPipe(Name, LongReceptor)].
+    ///
+    /// @param name     the name assigned to the returned pipe's subject
+    /// @param receptor the receptor invoked on this circuit's processing thread
+    /// @return A named circuit-owned pipe that delivers queued emissions to the receptor
+    /// @throws NullPointerException if any argument is `null`
+    /// @throws Fault                if name is not from this runtime provider, or if this circuit has been closed
+    /// @see IntPipe
+    /// @since 3.0
+
+    @New
+    @NotNull
+    IntPipe intPipe (
+      @NotNull Name name,
+      @NotNull @Queued IntReceptor receptor
+    );
+
+
+    /// Returns a link carrying this circuit's emissions into another circuit.
+    ///
+    /// Pipelines that partition work across circuits usually have a fixed
+    /// pairwise graph of cross-circuit traffic. Declaring each edge as a [Link]
+    /// replaces per-emission admission to the target's multi-producer ingress —
+    /// and the target wake-up that may come with it — with a single-producer ring
+    /// flushed once per drain cycle of this circuit. See [Link] for the ordering
+    /// and barrier guarantees, which match ordinary cross-circuit emission.
+    ///
+    /// While a link to `target` is open, calling this method again returns the
+    /// same link.
+    ///
+    /// @param target the circuit receiving this circuit's emissions
+    /// @return The open link from this circuit to `target`
+    /// @throws NullPointerException if target is `null`
+    /// @throws Fault                if target is this circuit, is not a runtime-provided implementation, or if either circuit has been closed
+    /// @see Link
+    /// @since 3.0
+
+    @New ( conditional = true )
+    @NotNull
+    Link link (
+      @NotNull Circuit target
+    );
+
+
+    /// Returns a `long`-specialized conduit with the specified name and routing.
+    ///
+    /// The primitive counterpart of [#conduit(Name, Class, Routing)]. The
+    /// returned [LongConduit] hands out [LongPipe] channel pipes and dispatches the
+    /// primitive value to specialized registrants, so `long` emissions travel
+    /// through the ingress queue and subscriber dispatch without boxing.
+    /// A dedicated factory is used rather than `conduit(Name, long.class, Routing)`
+    /// because a class token cannot select a different return type.
+    ///
+    /// @param name    the name given to the conduit's subject
+    /// @param routing controls how emissions are dispatched within the conduit
+    /// @return A `long` conduit with the specified name and routing
+    /// @throws NullPointerException if any parameter is `null`
+    /// @throws Fault                if the name parameter is not a runtime-provided implementation, or if this circuit has been closed
+    /// @see LongConduit
+    /// @since 3.0
+
+    @New
+    @NotNull
+    LongConduit longConduit (
+      @NotNull Name name,
+      @NotNull Routing routing
+    );
+
+
+    /// Returns a `long`-specialized conduit with the specified name and [Routing#PIPE] routing.
+    ///
+    /// @param name the name given to the conduit's subject
+    /// @return A `long` conduit with the specified name
+    /// @throws NullPointerException if name is `null`
+    /// @throws Fault                if the name parameter is not a runtime-provided implementation, or if this circuit has been closed
+    /// @see #longConduit(Name, Routing)
+    /// @since 3.0
+
+    @New
+    @NotNull
+    default LongConduit longConduit (
+      @NotNull final Name name
+    ) {
+
+      requireNonNull ( name );
+
+      return longConduit (
+        name,
+        Routing.PIPE
+      );
+
+    }
+
+
+    /// Returns a circuit-owned `long` pipe that delivers emissions to the receptor.
+    ///
+    /// The primitive counterpart of [#pipe(Receptor)]. Emissions submitted
+    /// through [LongPipe#emit(long)] reach [LongReceptor#receive(long)] on this circuit's
+    /// processing thread without boxing. Sequencing, exception isolation, and
+    /// `await()` semantics are identical to [#pipe(Receptor)].
+    ///
+    /// @param receptor the receptor invoked on this circuit's processing thread
+    /// @return A circuit-owned pipe that delivers queued emissions to the receptor
+    /// @throws NullPointerException if receptor is `null`
+    /// @throws Fault                if this circuit has been closed
+    /// @see LongPipe
+    /// @since 3.0
+
+    @New
+    @NotNull
+    LongPipe longPipe (
+      @NotNull @Queued LongReceptor receptor
+    );
+
+
+    /// Returns a named circuit-owned `long` pipe that delivers emissions to the receptor.
+    ///
+    /// The primitive counterpart of [#pipe(Name, Receptor)].
+    ///
+    /// @param name     the name assigned to the returned pipe's subject
+    /// @param receptor the receptor invoked on this circuit's processing thread
+    /// @return A named circuit-owned pipe that delivers queued emissions to the receptor
+    /// @throws NullPointerException if any argument is `null`
+    /// @throws Fault                if name is not from this runtime provider, or if this circuit has been closed
+    /// @see LongPipe
+    /// @since 3.0
+
+    @New
+    @NotNull
+    LongPipe longPipe (
+      @NotNull Name name,
+      @NotNull @Queued LongReceptor receptor
+    );
+
+
+    /// Returns a circuit-owned pin seeded with an initial value.
+    ///
+    /// A [Pin] is an immediate-access handle to circuit-owned state, guarded by
+    /// the owning circuit context. Unlike [#port(Object)], which is queued and
+    /// exposes no read accessor, a Pin's [Pin#get()] and [Pin#set(Object)]
+    /// execute inline — but only when invoked from the owning circuit's
+    /// processing thread. Invocation from any other context raises
+    /// [IllegalStateException].
+    ///
+    /// Use Pin when circuit-local code needs "set X, then read X on the next
+    /// line" semantics, or when mutable in-place objects must be updated
+    /// under circuit-context confinement. Pin handles MAY be emitted as values
+    /// — the receiver may store or forward the handle but cannot dereference
+    /// it from outside the owning circuit.
+    ///
+    /// The returned Pin's subject inherits the owning circuit's name. Use
+    /// [#pin(Name, Object)] for an explicit subject name.
+    ///
+    /// @param initial the seed value
+    /// @param <E>     the type of state held by the pin
+    /// @return A new seeded pin owned by this circuit
+    /// @throws NullPointerException if initial is `null`
+    /// @throws Fault                if this circuit has been closed
+    /// @see Pin
+    /// @see #pin(Name, Object)
+    /// @since 2.9
+
+    @New
+    @NotNull
+    < E > Pin < E > pin (
+      @NotNull E initial
+    );
+
+
+    /// Returns a named circuit-owned pin seeded with an initial value.
+    ///
+    /// Same semantics as [#pin(Object)] but binds the supplied name to the
+    /// returned Pin's subject. The name must have been obtained from this
+    /// runtime's [Cortex]; passing a name created by a different provider
+    /// raises [Fault].
+    ///
+    /// @param name    the name assigned to the returned pin's subject
+    /// @param initial the seed value
+    /// @param <E>     the type of state held by the pin
+    /// @return A new named seeded pin owned by this circuit
+    /// @throws NullPointerException if any argument is `null`
+    /// @throws Fault                if the name parameter is not a runtime-provided implementation, or if this circuit has been closed
+    /// @see Pin
+    /// @see #pin(Object)
+    /// @since 2.9
+
+    @New
+    @NotNull
+    < E > Pin < E > pin (
+      @NotNull Name name,
+      @NotNull E initial
+    );
+
+
+    /// Returns a pipe that queues emissions on this circuit but performs no work
+    /// when they are processed.
+    ///
+    /// The returned pipe adheres to the circuit's queue processing: each call to
+    /// [Pipe#emit(Object)] enqueues a job on the circuit's queue. When the job is
+    /// dequeued on the circuit thread it is a no-op — the emission is discarded.
+    ///
+    /// This is the concise form of `circuit.pipe(Receptor.of())` — same timing,
+    /// ordering, and `await()` semantics, without allocating a receptor wrapper.
+    ///
+    /// ## Use Cases
+    ///
+    /// - Sink / black-hole pipe in tests and benchmarks
+    /// - Placeholder where a circuit-owned pipe is required but no processing is needed
+    /// - Back-pressure point: scheduled work still consumes queue capacity
+    ///
+    /// @param <E> the class type of emitted values
+    /// @return A pipe that queues emissions on this circuit and discards them
+    /// @see Pipe
+    /// @see Receptor#NOOP
+    /// @since 2.3
+
+    @New
+    @NotNull
+    < E > Pipe < E > pipe ();
+
+
+    /// Returns a pipe that admits emissions through this circuit before forwarding
+    /// them to `target`.
+    ///
+    /// Use this as a circuit hop: the returned pipe is owned by this circuit, so
+    /// calls to [Pipe#emit(Object)] are queued on this circuit. When this circuit
     /// processes the emission, it forwards the value to `target`; from that point
     /// the target pipe keeps its own normal queuing, ordering, and circuit-ownership
     /// semantics.
@@ -1519,6 +2214,193 @@ public interface Substrates {
     Optional < Pulse > pulse ();
 
 
+    /// Replays every record of a single-source journal into this circuit.
+    ///
+    /// Equivalent to `replay(journal, pipes, journal.first(), journal.last())`,
+    /// and so rejects a journal holding records of more than one source.
+    ///
+    /// @param journal the journal to replay
+    /// @param pipes   the lookup resolving each record's name to a pipe of this circuit
+    /// @param <E>     the emission type of the journal
+    /// @return The outcome of the replay
+    /// @throws NullPointerException     if any argument is `null`
+    /// @throws IllegalArgumentException if the journal holds records of more than one source
+    /// @throws IllegalStateException    if called from within the circuit's thread
+    /// @throws Fault                    if a resolved pipe is not owned by this circuit, or if this circuit has been closed
+    /// @see #replay(Journal, Lookup, long, long)
+    /// @since 3.0
+
+    @NotNull
+    default < E > Replay replay (
+      @NotNull final Journal < E > journal,
+      @NotNull final Lookup < ? extends Pipe < ? super E > > pipes
+    ) {
+
+      requireNonNull ( journal );
+      requireNonNull ( pipes );
+
+      return
+        replay (
+          journal,
+          pipes,
+          journal.first (),
+          journal.last ()
+        );
+
+    }
+
+
+    /// Replays a sequence range of a single-source journal into this circuit.
+    ///
+    /// Equivalent to `replay(journal, source -> pipes, from, to)` once every
+    /// record in the range is known to share one source (see
+    /// [Journal#source(long)]). One lookup cannot tell apart the channels of
+    /// different sources, so a range holding records of more than one source
+    /// is rejected before anything is admitted; use
+    /// [#replay(Journal, Function, long, long)] for such a journal.
+    ///
+    /// @param journal the journal to replay
+    /// @param pipes   the lookup resolving each record's name to a pipe of this circuit
+    /// @param from    the first sequence to replay (inclusive)
+    /// @param to      the last sequence to replay (inclusive); a range with `to < from` replays nothing
+    /// @param <E>     the emission type of the journal
+    /// @return The outcome of the replay
+    /// @throws NullPointerException      if journal or pipes is `null`
+    /// @throws IllegalArgumentException  if the range holds records of more than one source
+    /// @throws IndexOutOfBoundsException if a non-empty range lies outside `[journal.first(), journal.last()]`
+    /// @throws IllegalStateException     if called from within the circuit's thread
+    /// @throws Fault                     if a resolved pipe is not owned by this circuit, or if this circuit has been closed
+    /// @see #replay(Journal, Function, long, long)
+    /// @since 3.0
+
+    @NotNull
+    default < E > Replay replay (
+      @NotNull final Journal < E > journal,
+      @NotNull final Lookup < ? extends Pipe < ? super E > > pipes,
+      final long from,
+      final long to
+    ) {
+
+      requireNonNull ( journal );
+      requireNonNull ( pipes );
+
+      if ( from <= to ) {
+
+        final var source =
+          journal.source ( from );
+
+        for ( var sequence = from + 1; sequence <= to; sequence++ ) {
+
+          if ( !source.equals ( journal.source ( sequence ) ) ) {
+            throw new IllegalArgumentException ( "journal range holds records of more than one source" );
+          }
+
+        }
+
+      }
+
+      return
+        replay (
+          journal,
+          _ -> pipes,
+          from,
+          to
+        );
+
+    }
+
+
+    /// Replays every record of a journal into this circuit, resolving pipes per source.
+    ///
+    /// Equivalent to `replay(journal, sources, journal.first(), journal.last())`.
+    ///
+    /// @param journal the journal to replay
+    /// @param sources the function resolving each record's source name to a lookup of pipes of this circuit
+    /// @param <E>     the emission type of the journal
+    /// @return The outcome of the replay
+    /// @throws NullPointerException  if any argument is `null`, or sources returns `null`
+    /// @throws IllegalStateException if called from within the circuit's thread
+    /// @throws Fault                 if a resolved pipe is not owned by this circuit, or if this circuit has been closed
+    /// @see #replay(Journal, Function, long, long)
+    /// @since 3.0
+
+    @NotNull
+    default < E > Replay replay (
+      @NotNull final Journal < E > journal,
+      @NotNull final Function < ? super Name, ? extends Lookup < ? extends Pipe < ? super E > > > sources
+    ) {
+
+      requireNonNull ( journal );
+      requireNonNull ( sources );
+
+      return
+        replay (
+          journal,
+          sources,
+          journal.first (),
+          journal.last ()
+        );
+
+    }
+
+
+    /// Replays a sequence range of a journal into this circuit at full speed.
+    ///
+    /// The calling thread reads the records in `[from, to]` in sequence order,
+    /// decodes each emission, resolves its pipe in two steps — the record's
+    /// source name through `sources`, then its channel name through the lookup
+    /// returned for that source — and admits the emissions to this circuit. Because the caller is the only producer the
+    /// replay needs, records are admitted in batches as contiguous ingress units
+    /// (see [Pipe#emit(Object\[\],int,int)]), paying ingress synchronization
+    /// once per batch rather than once per record. Each record is still
+    /// dispatched as its own emission, in sequence order. The call returns once
+    /// the last replayed record has been processed.
+    ///
+    /// ## Time
+    ///
+    /// On a [Clock#MANUAL] circuit, replay advances processing time between
+    /// records by the difference of their recorded timestamps, so time-based
+    /// operators and tickers reproduce the recorded run exactly, whatever the
+    /// replay speed. The first replayed record is processed at the circuit's
+    /// current processing time. On a [Clock#SYSTEM] circuit, records are
+    /// replayed without advances and time-based output follows real time.
+    ///
+    /// ## Fidelity
+    ///
+    /// A replay reproduces the recorded run when this circuit's topology —
+    /// conduits, subscriptions, routing — was built in the same order as the
+    /// recorded one, and when no other producer emits into the circuit during
+    /// the replay. Emissions from other producers are admitted between batches.
+    ///
+    /// ## Failure
+    ///
+    /// An exception from the journal's codec, from `sources`, or from a lookup it
+    /// returns stops the replay and propagates to the caller; records before the
+    /// failing one have been admitted.
+    ///
+    /// @param journal the journal to replay
+    /// @param sources the function resolving each record's source name to a lookup of pipes of this circuit
+    /// @param from    the first sequence to replay (inclusive)
+    /// @param to      the last sequence to replay (inclusive); a range with `to < from` replays nothing
+    /// @param <E>     the emission type of the journal
+    /// @return The outcome of the replay
+    /// @throws NullPointerException      if journal or sources is `null`, or sources returns `null`
+    /// @throws IndexOutOfBoundsException if a non-empty range lies outside `[journal.first(), journal.last()]`
+    /// @throws IllegalStateException     if called from within the circuit's thread
+    /// @throws Fault                     if a resolved pipe is not owned by this circuit, or if this circuit has been closed
+    /// @see Journal#sequence(long)
+    /// @see Journal#source(long)
+    /// @since 3.0
+
+    @NotNull
+    < E > Replay replay (
+      @NotNull Journal < E > journal,
+      @NotNull Function < ? super Name, ? extends Lookup < ? extends Pipe < ? super E > > > sources,
+      long from,
+      long to
+    );
+
+
     /// Returns a sink that funnels emissions, each enriched as a [Capture], into the
     /// given endpoint pipe.
     ///
@@ -1681,8 +2563,9 @@ public interface Substrates {
     /// numbers into the target pipe, with each emission processed through
     /// this circuit's queue.
     ///
-    /// A dedicated virtual thread sleeps for the configured interval, then
-    /// submits a tick job carrying the next sequence number to this circuit.
+    /// The ticker is scheduled on this circuit's timer (see [Circuit] — Time):
+    /// at each grid point the timer submits a tick job carrying the next
+    /// sequence number to this circuit. No thread is dedicated to a ticker.
     /// The first emission carries sequence `0`; each subsequent emission
     /// increments by one. Sequence numbers carry no wall-clock semantics —
     /// receptors can detect missed or delayed ticks from gaps or stalls in
@@ -1703,8 +2586,10 @@ public interface Substrates {
     /// produces a one-time phase shift, never a burst; at most one tick may
     /// fire early to rejoin the grid.
     ///
-    /// Submission is non-blocking — the ticker hands the emission to the
-    /// circuit and returns to await the next grid point. The grid governs
+    /// Submission is non-blocking — the timer hands the emission to the
+    /// circuit and reschedules the ticker for the next grid point. With a
+    /// timer resolution configured, a grid point fires at the first timer
+    /// tick at or after it; the grid itself does not move. The grid governs
     /// submission timing only; latency added by the circuit queue between
     /// submission and delivery is not part of this guarantee.
     ///
@@ -1712,7 +2597,7 @@ public interface Substrates {
     ///
     /// The returned [Ticker] controls the ticker and should be closed
     /// explicitly or managed by a [Scope]:
-    /// - [Ticker#close()] signals the ticker to stop; pending in-flight
+    /// - [Ticker#close()] cancels the ticker's timer entry; pending in-flight
     ///   emissions may still be delivered to the target before cleanup
     ///   completes
     /// - Closing the circuit rejects future tick submissions, but does not
@@ -1725,6 +2610,9 @@ public interface Substrates {
     /// same-circuit targets continue through worker-local transit ordering,
     /// while cross-circuit targets enqueue onto their owning circuit.
     ///
+    /// When the target is a [LongPipe], ticks are forwarded through
+    /// [LongPipe#emit(long)] and the sequence number is never boxed.
+    ///
     /// ## Failure Isolation
     ///
     /// Exceptions thrown by the target receptor are isolated by the circuit
@@ -1832,20 +2720,95 @@ public interface Substrates {
   }
 
 
-  /// A factory for pooled pipes that emit events through named channels.
+  /// Converts emissions to and from bytes for durable capture.
   ///
-  /// Conduit combines two capabilities:
-  /// - **Pool**: Creates and caches pipe instances by name, with composable `pool(fn)` for derived views
-  /// - **Source**: Emits events and allows subscription to channel creation
+  /// A codec is supplied by the application wherever the runtime persists
+  /// emission values, such as the ingress journal configured through
+  /// [Options#journal(Path, Codec)]. The runtime frames each encoded value
+  /// with its own length, so a codec writes and reads only the payload.
   ///
-  /// Conduits serve as the primary mechanism for creating emission abstractions
-  /// that route values through the circuit's processing engine.
+  /// Encoding is a two-step protocol so the runtime can reserve space in a
+  /// memory-mapped region before writing: [#size(Object)] reports the exact
+  /// number of bytes [#encode(Object, ByteBuffer)] will write for the same
+  /// value.
   ///
-  /// ## Pipe Pool
+  /// ## Threading
   ///
-  /// A conduit returns raw pipes via [Pool#get(Name)]. All transformations — flow
-  /// processing and domain-specific wrapping — are expressed as [Pool#pool(Function)]
-  /// composition:
+  /// Codec methods are invoked on the circuit thread that persists the value
+  /// and must not block. A codec shared by several circuits may be invoked
+  /// concurrently and should be stateless.
+  ///
+  /// ## Failure
+  ///
+  /// A codec is external code in the sense of SPEC §15.4. An exception thrown
+  /// from `size` or `encode` means the value cannot be captured; each use site
+  /// defines what happens to that value.
+  ///
+  /// @param <E> the type of value encoded
+  /// @see Options#journal(Path, Codec)
+  /// @since 3.0
+
+  @Extension
+  interface Codec < E > {
+
+    /// Decodes a value from the payload bytes of one record.
+    ///
+    /// The buffer's position is at the start of the payload and its limit at
+    /// the end; the codec should consume exactly the payload. The buffer is only
+    /// valid for the duration of the call.
+    ///
+    /// @param source the buffer holding the payload
+    /// @return The decoded value
+    /// @throws NullPointerException if source is `null`
+
+    @NotNull
+    E decode (
+      @NotNull ByteBuffer source
+    );
+
+
+    /// Encodes a value into the target buffer at its current position.
+    ///
+    /// Writes exactly [#size(Object)] bytes and advances the position by that
+    /// amount. The buffer is only valid for the duration of the call.
+    ///
+    /// @param value  the value to encode
+    /// @param target the buffer to write the payload into
+    /// @throws NullPointerException if any argument is `null`
+
+    void encode (
+      @NotNull E value,
+      @NotNull ByteBuffer target
+    );
+
+
+    /// Returns the number of bytes [#encode(Object, ByteBuffer)] writes for the value.
+    ///
+    /// @param value the value to be encoded
+    /// @return The exact encoded size in bytes (non-negative)
+    /// @throws NullPointerException if value is `null`
+
+    int size (
+      @NotNull E value
+    );
+
+  }
+
+
+  /// A factory for pooled pipes that emit events through named channels.
+  ///
+  /// Conduit combines two capabilities:
+  /// - **Pool**: Creates and caches pipe instances by name, with composable `pool(fn)` for derived views
+  /// - **Source**: Emits events and allows subscription to channel creation
+  ///
+  /// Conduits serve as the primary mechanism for creating emission abstractions
+  /// that route values through the circuit's processing engine.
+  ///
+  /// ## Pipe Pool
+  ///
+  /// A conduit returns raw pipes via [Pool#get(Name)]. All transformations — flow
+  /// processing and domain-specific wrapping — are expressed as [Pool#pool(Function)]
+  /// composition:
   ///
   /// ```java
   /// var conduit    = circuit.conduit(Signal.class);              // Conduit<Signal>
@@ -1865,6 +2828,47 @@ public interface Substrates {
   /// - Each pipe has its own unique channel and subject
   ///
   /// **Identity guarantee**: Pipes with the same name are identical objects.
+  /// A reclaiming conduit narrows this to the lifetime of a channel; see below.
+  ///
+  /// ## Channel Reclamation
+  ///
+  /// A conduit created with [Circuit#conduit(Name, Class, Routing, Duration)]
+  /// releases idle channels on the circuit thread. A channel is reclaimed once
+  /// it has gone the idle duration without an emission and is quiet — no
+  /// subscriber has registered pipes on it (see Quiet Channels) — and, under
+  /// [Routing#STEM], once no descendant channel remains. Idleness is checked on
+  /// the circuit's timer (see [Circuit] — Time).
+  ///
+  /// Every emission offered to the channel counts as activity, including one
+  /// skipped on the caller thread because the channel is quiet: the skip still
+  /// refreshes the channel's idle stamp, a plain write the timer check reads.
+  /// A quiet channel that keeps receiving emissions is therefore never
+  /// reclaimed; only a channel nobody emits into is.
+  ///
+  /// Reclaiming a channel drops its pipe from the pool together with the
+  /// values that derived pools ([Pool#pool(Function)], [Conduit#pool(Fiber)],
+  /// [Conduit#pool(Flow)]) cached for its name, releasing their operator state.
+  /// The next [Pool#get(Name)] for that name materializes a new channel, and
+  /// derived pools build fresh values with fresh state for it.
+  ///
+  /// A reclaimed channel was quiet, so every subscription that had seen it
+  /// declined it. The conduit keeps, per reclaimed name, only the applied
+  /// version the channel was last rebuilt at, and the new channel starts from
+  /// that version: its first rebuild invokes the callbacks of subscriptions
+  /// added since then and no others. As for any rebuild (see [Source] — Lazy
+  /// Rebuild Synchronization), no subscriber callback is repeated for a
+  /// subscription that has already seen the name.
+  ///
+  /// Identity therefore holds between reclamations, not for the conduit's
+  /// lifetime. References obtained before a reclamation stay usable: an
+  /// emission through a reclaimed pipe is delivered to the name's current
+  /// channel, materializing it if needed, and a retained derived value keeps
+  /// its own operator state. Code that relies on pipe identity or on state
+  /// accumulating across long idle gaps should use a non-reclaiming conduit.
+  ///
+  /// A reclaiming conduit's [Subject#state()] reports `conduit.channels`
+  /// (`int`), the channels currently held, and `conduit.reclaimed` (`long`),
+  /// the channels reclaimed since creation.
   ///
   /// ## Derived Pools (via Pool)
   ///
@@ -1880,6 +2884,48 @@ public interface Substrates {
   /// - First emission to that channel triggers rebuild on circuit thread
   /// - During rebuild, subscriber callback is invoked for newly encountered channels
   /// - Subscriber receives [Subject] of the channel and [Registrar] to attach pipes
+  /// - A subscription made with [Source#subscribe(Name, Subscriber)] is called back only
+  ///   for channels at or under its prefix, resolved by name rather than by calling every subscriber
+  ///
+  /// ## Quiet Channels
+  ///
+  /// A channel whose last rebuild registered no pipes — no subscriber attached
+  /// one and, under [Routing#STEM], no ancestor has any — is **quiet**. The
+  /// short-circuit compares two source versions (see [Source] — Lazy Rebuild
+  /// Synchronization):
+  ///
+  /// - the **issued** version, incremented on the calling thread by every
+  ///   `subscribe` and subscription `close` before its job is enqueued
+  /// - the **applied** version, advanced on the circuit thread as each of
+  ///   those jobs takes effect
+  ///
+  /// A rebuild stamps the channel's quiet flag with the applied version it
+  /// rebuilt at. [Pipe#emit(Object)] on a channel pipe reads the stamp and the
+  /// issued version on the caller thread. If the channel is quiet and its
+  /// stamp equals the issued version — every requested change has been applied
+  /// and none of them gave the channel a pipe — the emission is not admitted
+  /// at all: no job is enqueued and the circuit thread is not woken.
+  ///
+  /// The read is racy but safe:
+  ///
+  /// - A channel that has never been rebuilt is never quiet, so the first
+  ///   emission always reaches the circuit thread and subscriber callbacks
+  ///   still see every channel.
+  /// - While any registration is pending, the issued version is ahead of every
+  ///   stamp a rebuild can publish, since the stamp is at most the applied
+  ///   version. An emission that follows a `subscribe` call in happens-before
+  ///   order therefore sees a mismatch and is admitted, to be dispatched after
+  ///   the registration — even if an emission already queued before the
+  ///   registration rebuilds the channel in the meantime.
+  /// - A skipped emission is linearized at its read of the stamp. It behaves
+  ///   as if it had been processed before every subscription not yet visible
+  ///   to the caller, and such an emission would have found no pipes.
+  ///
+  /// The short-circuit applies only to the pipes returned by the conduit itself.
+  /// It never applies to pipes from derived pools whose chains may observe or
+  /// accumulate values on the way in ([Conduit#pool(Fiber)],
+  /// [Conduit#pool(Flow)]), nor on a journaled circuit, so that its journal
+  /// holds every emission offered to a channel (see [Options#journal(Path, Codec)]).
   ///
   /// ## Threading Model
   ///
@@ -1887,10 +2933,11 @@ public interface Substrates {
   ///
   /// **Caller thread** (synchronous):
   /// - [Pool#get(Name)] creates and caches channels immediately (thread-safe)
-  /// - `subscribe(subscriber)` enqueues registration to circuit thread
+  /// - `subscribe(subscriber)` increments the issued version and enqueues registration to circuit thread
+  /// - `emit` on a channel quiet at the issued version returns without admission
   ///
   /// **Circuit thread** (asynchronous):
-  /// - Subscriber registration completes and increments version
+  /// - Subscriber registration completes and advances the applied version
   /// - Emissions trigger lazy rebuild when version mismatch detected
   /// - Rebuild invokes subscriber callbacks for newly encountered channels
   /// - Emissions dispatched to registered pipes
@@ -2003,6 +3050,21 @@ public interface Substrates {
   /// - **Lifecycle management**: Track all components created by a cortex
   /// - **Identity tracking**: All components have fully-qualified subject paths
   ///
+  /// ## Cortex State
+  ///
+  /// The cortex's [Subject#state()] reports the name interning table (see
+  /// [Name]) as `long` slots, read as a snapshot at call time:
+  ///
+  /// - `name.size` — the names currently interned
+  /// - `name.hits`, `name.misses` — lookups that found an interned name, and
+  ///   lookups that interned a new one
+  /// - `name.collected` — interned names released after becoming unreachable
+  ///
+  /// Counters may be striped and summed on read, so a snapshot taken while
+  /// names are being created may be slightly stale, but each counter is
+  /// monotonic and `name.size` equals `name.misses - name.collected` once
+  /// creation quiesces.
+  ///
   /// @see Circuit
   /// @see Name
   /// @see Scope
@@ -2016,6 +3078,22 @@ public interface Substrates {
   non-sealed interface Cortex
     extends Substrate < Cortex > {
 
+    /// Reads the description of a checkpoint file without restoring it.
+    ///
+    /// @param file the checkpoint file
+    /// @return The checkpoint's description
+    /// @throws NullPointerException     if file is `null`
+    /// @throws IllegalArgumentException if file is not a complete checkpoint
+    /// @throws UncheckedIOException     if the file cannot be read
+    /// @see Circuit#checkpoint(Path, Codec)
+    /// @since 3.0
+
+    @NotNull
+    Checkpoint checkpoint (
+      @NotNull Path file
+    );
+
+
     /// Returns a newly created anonymous circuit instance.
     ///
     /// Each circuit maintains its own event processing queue and guarantees ordering
@@ -2057,6 +3135,30 @@ public interface Substrates {
     );
 
 
+    /// Returns a newly created circuit with the specified name and creation options.
+    ///
+    /// Behaves as [#circuit(Name)], with the circuit configured by `options`.
+    /// Options that the provider cannot honour on this platform (for example a
+    /// dedicated platform thread) raise [IllegalArgumentException] rather than
+    /// being ignored.
+    ///
+    /// @param name    the name assigned to the circuit's subject
+    /// @param options the creation options
+    /// @return A new circuit
+    /// @throws NullPointerException     if any argument is `null`
+    /// @throws IllegalArgumentException if the provider cannot honour an option
+    /// @throws Fault                    if an argument is not a runtime-provided implementation
+    /// @see Options
+    /// @since 3.0
+
+    @New
+    @NotNull
+    Circuit circuit (
+      @NotNull Name name,
+      @NotNull Options options
+    );
+
+
     /// Returns the [Current] representing the execution context.
     ///
     /// This method returns the execution context from which this method is invoked,
@@ -2080,6 +3182,19 @@ public interface Substrates {
     Current current ();
 
 
+    /// Returns an empty identity `double` fiber.
+    ///
+    /// The `double` counterpart of [#longFiber()].
+    ///
+    /// @return An empty identity `double` fiber
+    /// @see DoubleFiber
+    /// @since 3.0
+
+    @New
+    @NotNull
+    DoubleFiber doubleFiber ();
+
+
     /// Returns an empty identity fiber.
     ///
     /// The returned fiber passes all values of type `E` through unchanged.
@@ -2192,10 +3307,61 @@ public interface Substrates {
     );
 
 
+    /// Opens a read-only view of the ingress journal in a directory.
+    ///
+    /// The codec must decode what the writing circuit's codec encoded, for the
+    /// records of every source in the journal. The returned journal maps the
+    /// directory's segments and should be closed when no longer needed.
+    ///
+    /// @param directory the directory holding the journal's segment files
+    /// @param codec     the codec decoding emission values
+    /// @param <E>       the emission type decoded by the codec
+    /// @return A journal over the directory
+    /// @throws NullPointerException     if any argument is `null`
+    /// @throws IllegalArgumentException if the directory does not hold a journal
+    /// @throws UncheckedIOException     if the journal cannot be read
+    /// @see Journal
+    /// @see Options#journal(Path, Codec)
+    /// @since 3.0
+
+    @New
+    @NotNull
+    < E > Journal < E > journal (
+      @NotNull Path directory,
+      @NotNull Codec < E > codec
+    );
+
+
+    /// Returns an empty identity `long` fiber.
+    ///
+    /// The primitive counterpart of [#fiber(Class)] for `long` signals: operators
+    /// take primitive thresholds and functions and keep primitive state, so
+    /// materialized chains do not allocate per emission.
+    ///
+    /// @return An empty identity `long` fiber
+    /// @see LongFiber
+    /// @since 3.0
+
+    @New
+    @NotNull
+    LongFiber longFiber ();
+
+
     /// Parses the supplied path into an interned name.
     /// The path uses `.` as the separator; empty segments are rejected and cached segments are reused.
     /// Paths must not begin or end with `.` nor contain consecutive separators (for example: `.foo`, `foo.`, `foo..bar`).
     ///
+    /// ## Performance
+    ///
+    /// Producers often resolve the same path strings in hot loops rather than hold
+    /// on to the names. A bounded, concurrent cache keyed by the path string sits in
+    /// front of parsing, so resolving a recently seen path is a single lookup with no
+    /// splitting, per-segment hashing, or substring allocation. The cache returns the
+    /// interned instance, so results are identical with or without a hit. Its bound
+    /// caps how many names it keeps interned (see [Name] — Interning table); paths
+    /// that miss are parsed and interned as usual. Hoisting names out of hot loops
+    /// remains cheaper still.
+    ///
     /// @param path the string to be parsed into one or more name parts
     /// @return A name representing the parsed hierarchy
     /// @throws NullPointerException     if the path is `null`
@@ -2210,6 +3376,9 @@ public interface Substrates {
     /// Creates a hierarchical name from the enum's declaring class followed by the constant's name.
     /// For example, `TimeUnit.SECONDS` produces a name equivalent to `"java.util.concurrent.TimeUnit.SECONDS"`.
     ///
+    /// The names of an enum's constants are cached per declaring class and
+    /// indexed by ordinal, so repeated calls are a lookup without string work.
+    ///
     /// @param constant the enum constant
     /// @return A hierarchical name representing the fully-qualified enum constant
     /// @throws NullPointerException if the constant is `null`
@@ -2301,6 +3470,9 @@ public interface Substrates {
     /// When the component type has no canonical name (e.g. an array of an
     /// anonymous class), the array falls back to [Class#getName()].
     ///
+    /// The name is cached per class (for example in a [ClassValue]), so repeated
+    /// calls for the same class return it without rebuilding the class name.
+    ///
     /// @param type the class to be mapped to a name
     /// @return A name whose string representation matches `type.getCanonicalName()` for normal types and arrays whose components have canonical names, and `type.getName()` for primitives, anonymous/local classes, and arrays whose components have no canonical name
     /// @throws NullPointerException if the type is `null`
@@ -2314,6 +3486,9 @@ public interface Substrates {
     /// Creates an interned name from a member.
     /// The declaring class hierarchy is extended with the member name.
     ///
+    /// The name is cached per member, keyed by the member's declaring class and
+    /// identity, so repeated calls with the same member object avoid rebuilding it.
+    ///
     /// @param member the member to be mapped to a name
     /// @return A name mapped to the member
     /// @throws NullPointerException if the member is `null`
@@ -2324,6 +3499,57 @@ public interface Substrates {
     );
 
 
+    /// Returns the default circuit creation options.
+    ///
+    /// @return Options holding the default value of every option
+    /// @see #circuit(Name, Options)
+    /// @since 3.0
+
+    @NotNull
+    Options options ();
+
+
+    /// Returns a newly created plexus of `size` anonymous shard circuits.
+    ///
+    /// The plexus's [Subject] inherits this cortex's runtime default name. Use
+    /// [#plexus(Name, int)] to name the plexus and its shards.
+    ///
+    /// @param size the number of shard circuits; must be positive
+    /// @return A new plexus
+    /// @throws IllegalArgumentException if size is not positive
+    /// @see Plexus
+    /// @since 3.0
+
+    @New
+    @NotNull
+    Plexus plexus (
+      int size
+    );
+
+
+    /// Returns a newly created plexus of `size` shard circuits with the specified name.
+    ///
+    /// Shard `i` is a circuit named by extending `name` with the segment `i`,
+    /// so an `ingest` plexus of four shards owns circuits `ingest.0` through
+    /// `ingest.3`. The returned plexus must be closed when no longer needed.
+    ///
+    /// @param name the name assigned to the plexus's subject
+    /// @param size the number of shard circuits; must be positive
+    /// @return A new plexus
+    /// @throws NullPointerException     if name is `null`
+    /// @throws IllegalArgumentException if size is not positive
+    /// @throws Fault                    if the name parameter is not a runtime-provided implementation
+    /// @see Plexus
+    /// @since 3.0
+
+    @New
+    @NotNull
+    Plexus plexus (
+      @NotNull Name name,
+      int size
+    );
+
+
     /// Returns a new anonymous scope instance for managing resources.
     ///
     /// Scopes provide hierarchical resource lifecycle management. When a scope is closed,
@@ -2596,1415 +3822,1417 @@ public interface Substrates {
 
   }
 
-  /// Indicates an API that is experimental and subject to change in future releases.
+  /// A conduit whose channels carry `double` emissions without boxing.
   ///
-  /// Experimental APIs are not considered stable and may be modified or removed
-  /// without following normal deprecation policies. Use with caution in production code.
+  /// The `double` counterpart of [LongConduit]: channel pipes are [DoublePipe]s, and
+  /// registered [DoublePipe]s and [DoubleReceptor]s receive the primitive value directly.
+  /// Other registrants receive a boxed `Double`, created at most once per emission.
+  /// In every other respect it is an ordinary `Conduit<Double>`.
   ///
-  /// @since 1.0
+  /// @see LongConduit
+  /// @see Circuit#doubleConduit(Name, Routing)
+  /// @since 3.0
 
-  @SuppressWarnings ( "unused" )
-  @Documented
-  @Retention ( SOURCE )
-  @Target ( {TYPE, METHOD, CONSTRUCTOR, FIELD} )
-  @interface Experimental {
-  }
+  @Tenure ( Tenure.EPHEMERAL )
+  @Provided
+  interface DoubleConduit
+    extends Conduit < Double > {
 
+    /// Returns the specialized channel pipe for the given name.
+    ///
+    /// Identity and caching follow [Pool#get(Name)]: the same name always
+    /// yields the same pipe instance.
+    ///
+    /// @param name the name identifying the channel
+    /// @return The `double` pipe for this channel
+    /// @throws NullPointerException if name is `null`
+    /// @throws Fault                if the name parameter is not a runtime-provided implementation
 
-  /// Indicates a type used by callers or instrumentation kits to extend capabilities.
+    @Override
+    @NotNull
+    DoublePipe get (
+      @NotNull Name name
+    );
 
-  @SuppressWarnings ( "WeakerAccess" )
-  @Documented
-  @Retention ( SOURCE )
-  @Target ( TYPE )
-  @interface Extension {
-  }
 
+    /// Returns the specialized channel pipe for the given substrate's name.
+    ///
+    /// @param substrate the substrate whose subject name identifies the channel
+    /// @return The `double` pipe for this channel
+    /// @throws NullPointerException if substrate is `null`
+    /// @throws Fault                if the substrate parameter is not a runtime-provided implementation
 
-  /// An abstraction of a hierarchically nested structure of enclosed whole-parts.
-  ///
-  /// @param <S> the concrete extent type (usually `this`) returned from [#extent()]
-  /// @param <P> the enclosing extent type iterated during traversal
+    @Override
+    @NotNull
+    default DoublePipe get (
+      @NotNull final Substrate < ? > substrate
+    ) {
 
-  @Abstract
-  @Extension
-  interface Extent < S extends Extent < S, P >, P extends Extent < ?, P > >
-    extends Iterable < P > {
+      requireNonNull ( substrate );
 
+      return get (
+        substrate
+          .subject ()
+          .name ()
+      );
 
-    /// Returns the depth of this extent within all enclosures.
+    }
+
+
+    /// Returns the specialized channel pipe for the given subject's name.
     ///
-    /// @return The depth of this extent within all enclosures.
+    /// @param subject the subject whose name identifies the channel
+    /// @return The `double` pipe for this channel
+    /// @throws NullPointerException if subject is `null`
+    /// @throws Fault                if the subject parameter is not a runtime-provided implementation
 
-    default int depth () {
+    @Override
+    @NotNull
+    default DoublePipe get (
+      @NotNull final Subject < ? > subject
+    ) {
 
-      return
-        fold (
-          _ -> 1,
-          ( depth, _ ) -> depth + 1
-        );
+      requireNonNull ( subject );
+
+      return get (
+        subject.name ()
+      );
 
     }
 
 
-    /// Returns the (parent/prefix) extent that encloses this extent.
+    /// Returns a derived pool that applies a `double` fiber to each channel's pipe.
     ///
-    /// @return An optional holding the enclosing extent, or empty if none
+    /// The specialized form of [Conduit#pool(Fiber)]: each channel's [DoublePipe]
+    /// is wrapped with the fiber, and values flow from the returned pipes
+    /// through the operators into the channel without boxing.
+    ///
+    /// @param fiber the fiber that processes emissions before the channel
+    /// @return A derived pool whose pipes apply the fiber before this conduit's pipes
+    /// @throws NullPointerException if fiber is `null`
+    /// @throws Fault                if the fiber is not a runtime-provided implementation
+    /// @see DoubleFiber#pipe(Pipe)
+    /// @since 3.0
 
+    @New
     @NotNull
-    default Optional < P > enclosure () {
+    Pool < DoublePipe > pool (
+      @NotNull DoubleFiber fiber
+    );
 
-      return Optional.empty ();
+  }
 
-    }
 
+  /// A pipe that accepts `double` emissions without boxing.
+  ///
+  /// The `double` counterpart of [LongPipe]: [#emit(double)] carries the value into
+  /// the circuit without allocating a `Double`, and the boxed [#emit(Double)]
+  /// delegates to it. All [Pipe] guarantees apply unchanged.
+  ///
+  /// @see LongPipe
+  /// @see DoubleReceptor
+  /// @since 3.0
 
-    /// Applies the given consumer to the enclosing extent if it exists.
+  @Tenure ( Tenure.ANCHORED )
+  @Provided
+  interface DoublePipe
+    extends Pipe < Double > {
+
+    /// Emits a `double` value without boxing.
     ///
-    /// @param consumer the consumer to be applied to the enclosing extent
-    /// @throws NullPointerException if the consumer is `null`
+    /// Semantics are those of [Pipe#emit(Object)]; only the representation
+    /// differs.
+    ///
+    /// @param emission the value to be emitted
 
-    default void enclosure (
-      @NotNull final Consumer < ? super P > consumer
-    ) {
+    @Queued
+    void emit (
+      double emission
+    );
 
-      enclosure ()
-        .ifPresent ( consumer );
 
-    }
+    /// Emits a boxed value by unwrapping it and delegating to [#emit(double)].
+    ///
+    /// @param emission the value to be emitted
+    /// @throws NullPointerException if the emission is `null`
 
+    @Override
+    @Queued
+    default void emit (
+      @NotNull final Double emission
+    ) {
 
-    /// Returns the extent instance referenced by `this`.
-    ///
-    /// @return A reference to this extent instance
+      emit (
+        emission.doubleValue ()
+      );
 
-    @NotNull
-    @SuppressWarnings ( "unchecked" )
-    default S extent () {
-      return (S) this;
     }
 
 
-    /// Returns the outermost (root) extent in the enclosure hierarchy.
+    /// Emits a contiguous range of a `double` array as a single ingress unit.
     ///
-    /// Traverses the enclosure chain from this extent to find the root - the extent
-    /// that has no enclosure. For a single-level extent (no enclosure), returns `this`.
+    /// The primitive form of [Pipe#emit(Object\[\],int,int)], with the same
+    /// contiguity, ordering, and synchronous bounds validation.
     ///
-    /// This is the opposite endpoint from `this` in the hierarchy:
-    /// - [#iterator()] traverses from `this` toward [#extremity()]
-    /// - [#extremity()] returns the final element that iterator would reach
+    /// @param emissions the array holding the values to be emitted
+    /// @param offset    the index of the first value to emit
+    /// @param length    the number of values to emit
+    /// @throws NullPointerException      if `emissions` is `null`
+    /// @throws IndexOutOfBoundsException if the range is out of bounds for the array
+
+    @Queued
+    void emit (
+      @NotNull double[] emissions,
+      int offset,
+      int length
+    );
+
+
+    /// Emits every value of an iterable as a single ingress unit.
     ///
-    /// ## Example
+    /// The `double` counterpart of [Pipe#emitAll(Iterable)]: unboxes the values in
+    /// iteration order into a `double[]` and submits them through
+    /// [#emit(double\[\],int,int)], with the same contiguity and all-or-nothing
+    /// validation. If any value is `null`, nothing is emitted. An empty iterable
+    /// is a no-op.
     ///
-    /// For a name hierarchy `com.example.service`:
-    /// - `service.extremity()` returns the `com` extent
-    /// - `com.extremity()` returns `com` (itself, as it has no enclosure)
-    ///
-    /// ## Performance
-    ///
-    /// This method traverses the entire enclosure chain, so cost is O(depth).
-    /// For deep hierarchies, consider caching the result if called frequently.
-    ///
-    /// @return The root extent (outermost enclosure) in the hierarchy
-    /// @see #enclosure()
-    /// @see #iterator()
-    /// @see #depth()
+    /// @param emissions the values to be emitted, in order
+    /// @throws NullPointerException if `emissions` or any of its values is `null`
+    /// @since 3.0
 
-    @NotNull
-    @SuppressWarnings ( "unchecked" )
-    default P extremity () {
+    @Override
+    @Queued
+    default void emitAll (
+      @NotNull final Iterable < ? extends Double > emissions
+    ) {
 
-      P prev;
+      requireNonNull ( emissions );
 
-      var current
-        = (P) extent ();
+      final var batch =
+        StreamSupport
+          .stream ( emissions.spliterator (), false )
+          .mapToDouble ( Double::doubleValue )
+          .toArray ();
 
-      do {
+      emit (
+        batch,
+        0,
+        batch.length
+      );
 
-        prev = current;
+    }
 
-        current
-          = current
-          .enclosure ()
-          .orElse ( null );
+  }
 
-      } while ( current != null );
 
-      return prev;
+  /// A receptor that receives `double` emissions without boxing.
+  ///
+  /// The `double` counterpart of [LongReceptor]: [#receive(double)] is the single
+  /// abstract method, and the boxed [#receive(Double)] delegates to it.
+  ///
+  /// @see LongReceptor
+  /// @see DoublePipe
+  /// @since 3.0
 
-    }
+  @FunctionalInterface
+  interface DoubleReceptor
+    extends Receptor < Double > {
+
+    /// Receives a `double` emission.
+    ///
+    /// @param emission the value received
+
+    void receive (
+      double emission
+    );
 
 
-    /// Produces an accumulated value moving from the right (this) to the left (root) in the extent.
+    /// Receives a boxed emission by unwrapping it and delegating to [#receive(double)].
     ///
-    /// @param <R>         the return type of the accumulated value
-    /// @param initializer the function called to initialize the accumulator
-    /// @param accumulator the function used to add a value to the accumulator
-    /// @return The accumulated result
-    /// @throws NullPointerException if either initializer or accumulator is `null`
+    /// @param emission the value received
 
-    default < R > R fold (
-      @NotNull final Function < ? super P, ? extends R > initializer,
-      @NotNull final BiFunction < ? super R, ? super P, R > accumulator
+    @Override
+    default void receive (
+      @NotNull final Double emission
     ) {
 
-      requireNonNull ( initializer );
-      requireNonNull ( accumulator );
+      receive (
+        emission.doubleValue ()
+      );
 
-      final var it
-        = iterator ();
+    }
 
-      var result
-        = initializer.apply (
-        it.next ()
-      );
+  }
 
-      while ( it.hasNext () ) {
 
-        result
-          = accumulator.apply (
-          result,
-          it.next ()
-        );
+  /// A same-type processing fiber specialized for `double` emissions.
+  ///
+  /// The `double` counterpart of [LongFiber]: primitive thresholds, primitive
+  /// operator functions ([DoubleBinaryOperator], [DoublePredicate],
+  /// [DoubleUnaryOperator]), and primitive operator state. Operators follow
+  /// the `Fiber` operator of the same name. Equality,
+  /// as used by `diff`, follows [Double#equals(Object)]: `NaN` equals `NaN` and
+  /// `0.0` differs from `-0.0`, matching the boxed `Fiber<Double>`. Ordering
+  /// comparisons use the primitive `<` and `>` operators, so a `NaN` emission
+  /// fails every bound.
+  ///
+  /// @see LongFiber
+  /// @see Cortex#doubleFiber()
+  /// @since 3.0
 
-      }
+  @Provided
+  interface DoubleFiber {
 
-      return result;
+    /// Returns a fiber that passes only values strictly above `lower`. Stateless.
+    ///
+    /// @param lower the exclusive lower bound
+    /// @return A fiber with the operator appended
+    /// @see Fiber#above(Object)
+    /// @since 3.0
 
-    }
+    @NotNull
+    DoubleFiber above (
+      double lower
+    );
 
 
-    /// Produces an accumulated value moving from the left (root) to the right (this) in the extent.
+    /// Returns a fiber that passes only values strictly below `upper`. Stateless.
     ///
-    /// @param <R>         the return type of the accumulated value
-    /// @param initializer the function called to seed the accumulator
-    /// @param accumulator the function used to add a value to the accumulator
-    /// @return The accumulated result
-    /// @throws NullPointerException if either initializer or accumulator is `null`
+    /// @param upper the exclusive upper bound
+    /// @return A fiber with the operator appended
+    /// @see Fiber#below(Object)
+    /// @since 3.0
 
-    @SuppressWarnings ( "unchecked" )
-    default < R > R foldTo (
-      @NotNull final Function < ? super P, ? extends R > initializer,
-      @NotNull final BiFunction < ? super R, ? super P, R > accumulator
-    ) {
+    @NotNull
+    DoubleFiber below (
+      double upper
+    );
 
-      requireNonNull ( initializer );
-      requireNonNull ( accumulator );
 
-      return enclosure ()
-        .map (
-          ( P enclosure ) ->
-            accumulator.apply (
-              enclosure.foldTo (
-                initializer,
-                accumulator
-              ),
-              (P) extent ()
-            )
-        ).orElse (
-          initializer.apply (
-            (P) extent ()
-          )
-        );
+    /// Returns a fiber that clamps values to `[lower, upper]`. Stateless.
+    ///
+    /// @param lower the inclusive lower bound
+    /// @param upper the inclusive upper bound
+    /// @return A fiber with the operator appended
+    /// @throws IllegalArgumentException if `lower > upper` or either bound is `NaN`
+    /// @see Fiber#clamp(Object, Object)
+    /// @since 3.0
 
-    }
+    @NotNull
+    DoubleFiber clamp (
+      double lower,
+      double upper
+    );
 
 
-    /// Returns an iterator over the extents moving from the right (`this`) to the left ([#extremity()]).
+    /// Returns a fiber that drops values within `[lower, upper]` and passes values outside it. Stateless.
     ///
-    /// @return An iterator for traversing over the nested extents, starting with `this` extent instance.
+    /// @param lower the inclusive lower edge of the suppressed band
+    /// @param upper the inclusive upper edge of the suppressed band
+    /// @return A fiber with the operator appended
+    /// @throws IllegalArgumentException if `lower > upper` or either bound is `NaN`
+    /// @see Fiber#deadband(Object, Object)
+    /// @since 3.0
 
-    @New
     @NotNull
-    @Override
-    default Iterator < P > iterator () {
+    DoubleFiber deadband (
+      double lower,
+      double upper
+    );
 
-      return new Iterator <> () {
 
-        @SuppressWarnings ( "unchecked" )
-        private P extent = (P) extent ();
+    /// Returns a fiber that drops consecutive duplicate values. The first emission always passes. Stateful.
+    ///
+    /// @return A fiber with the operator appended
+    /// @see Fiber#diff()
+    /// @since 3.0
 
-        @Override
-        public boolean hasNext () {
+    @NotNull
+    DoubleFiber diff ();
 
-          return extent != null;
 
-        }
+    /// Returns a fiber that emits every Nth value and drops the rest. Stateful.
+    ///
+    /// @param interval the sample interval (positive)
+    /// @return A fiber with the operator appended
+    /// @throws IllegalArgumentException if interval is not positive
+    /// @see Fiber#every(int)
+    /// @since 3.0
 
-        @Override
-        public P next () {
+    @NotNull
+    DoubleFiber every (
+      int interval
+    );
 
-          final var result = extent;
 
-          if ( result == null ) {
-            throw new NoSuchElementException ();
-          }
+    /// Returns a fiber that runs another `double` fiber's operators after this fiber's.
+    ///
+    /// @param next the fiber whose operators run after this fiber's
+    /// @return A fiber with the operator appended
+    /// @throws NullPointerException if next is `null`
+    /// @throws Fault                if next is not a runtime-provided implementation
+    /// @see Fiber#fiber(Fiber)
+    /// @since 3.0
 
-          extent
-            = result
-            .enclosure ()
-            .orElse ( null );
+    @NotNull
+    DoubleFiber fiber (
+      @NotNull DoubleFiber next
+    );
 
-          return result;
 
-        }
-      };
+    /// Returns a fiber that passes only values for which the predicate holds. Stateless.
+    ///
+    /// @param predicate the predicate deciding which values pass
+    /// @return A fiber with the operator appended
+    /// @throws NullPointerException if predicate is `null`
+    /// @see Fiber#guard(Predicate)
+    /// @since 3.0
 
-    }
+    @NotNull
+    DoubleFiber guard (
+      @NotNull DoublePredicate predicate
+    );
 
 
-    /// Returns a `String` representation of just this extent.
+    /// Returns a fiber that passes only values that are new running highs. The first emission always passes. Stateful.
     ///
-    /// @return A non-`null` `String` representation.
+    /// @return A fiber with the operator appended
+    /// @see Fiber#high(Comparator)
+    /// @since 3.0
 
     @NotNull
-    String part ();
+    DoubleFiber high ();
 
 
-    /// Returns a `CharSequence` representation of this extent, including enclosing extents.
-    /// The default implementation uses '/' as a separator. Extensions of this interface
-    /// may override this method to use a different default separator (e.g., [Name] uses '.').
+    /// Returns a fiber that accumulates values and, when `fire` holds on the accumulator, emits it and
+    /// resets to `initial`. Stateful.
     ///
-    /// @return A non-`null` `CharSequence` representation of this extent and its enclosures.
-    /// @see #path(char)
+    /// @param initial     the starting and reset value of the accumulator
+    /// @param accumulator the operation `(state, input) -> new state`
+    /// @param fire        the predicate deciding when to emit and reset
+    /// @return A fiber with the operator appended
+    /// @throws NullPointerException if accumulator or fire is `null`
+    /// @see Fiber#integrate(Object, BinaryOperator, Predicate)
+    /// @since 3.0
 
     @NotNull
-    default CharSequence path () {
+    DoubleFiber integrate (
+      double initial,
+      @NotNull DoubleBinaryOperator accumulator,
+      @NotNull DoublePredicate fire
+    );
 
-      return
-        path ( '/' );
 
-    }
+    /// Returns a fiber that passes at most `limit` emissions, then blocks all subsequent values. Stateful.
+    ///
+    /// @param limit the maximum number of emissions to pass through (non-negative)
+    /// @return A fiber with the operator appended
+    /// @throws IllegalArgumentException if limit is negative
+    /// @see Fiber#limit(long)
+    /// @since 3.0
 
+    @NotNull
+    DoubleFiber limit (
+      long limit
+    );
 
-    /// Returns a `CharSequence` representation of this extent and its enclosures.
+
+    /// Returns a fiber that passes only values that are new running lows. The first emission always passes. Stateful.
     ///
-    /// @param separator the character to use as separator between extent parts
-    /// @return A non-`null` `String` representation.
+    /// @return A fiber with the operator appended
+    /// @see Fiber#low(Comparator)
+    /// @since 3.0
 
     @NotNull
-    default CharSequence path (
-      final char separator
-    ) {
+    DoubleFiber low ();
 
-      return
-        path (
-          Extent::part,
-          separator
-        );
 
-    }
+    /// Returns a fiber that passes only values at or below `max`. Stateless.
+    ///
+    /// @param max the inclusive upper bound
+    /// @return A fiber with the operator appended
+    /// @see Fiber#max(Object)
+    /// @since 3.0
 
+    @NotNull
+    DoubleFiber max (
+      double max
+    );
 
-    /// Returns a `CharSequence` representation of this extent and its enclosures.
+
+    /// Returns a fiber that passes only values at or above `min`. Stateless.
     ///
-    /// @param separator the string to use as separator between extent parts
-    /// @return A non-`null` `String` representation.
-    /// @throws NullPointerException if the separator is `null`
+    /// @param min the inclusive lower bound
+    /// @return A fiber with the operator appended
+    /// @see Fiber#min(Object)
+    /// @since 3.0
 
     @NotNull
-    default CharSequence path (
-      @NotNull final String separator
-    ) {
+    DoubleFiber min (
+      double min
+    );
 
-      requireNonNull ( separator );
 
-      return
-        path (
-          Extent::part,
-          separator
-        );
+    /// Returns a fiber that invokes the receptor with each value, then passes the value downstream. Stateless.
+    ///
+    /// @param receptor the receptor invoked for each emission
+    /// @return A fiber with the operator appended
+    /// @throws NullPointerException if receptor is `null`
+    /// @see Fiber#peek(Receptor)
+    /// @since 3.0
 
-    }
+    @NotNull
+    DoubleFiber peek (
+      @NotNull DoubleReceptor receptor
+    );
 
 
-    /// Returns a `CharSequence` representation of this extent and its enclosures.
+    /// Returns a `double` pipe that applies this fiber's operator chain ahead of the
+    /// supplied pipe, on that pipe's circuit.
     ///
-    /// @param mapper    the function to map extent parts to character sequences
-    /// @param separator the character to use as separator between extent parts
-    /// @return A non-`null` `String` representation.
-    /// @throws NullPointerException if the mapper is `null`
+    /// When `pipe` is a [DoublePipe], surviving values are forwarded through its
+    /// primitive `emit` and are never boxed; any other pipe receives a boxed value.
+    ///
+    /// @param pipe the pipe to prepend this fiber to
+    /// @return A pipe that applies this fiber before forwarding to `pipe`
+    /// @throws NullPointerException if pipe is `null`
+    /// @throws Fault                if the pipe is not a runtime-provided implementation
+    /// @see Fiber#pipe(Pipe)
+    /// @since 3.0
 
+    @New
     @NotNull
-    default CharSequence path (
-      @NotNull final Function < ? super P, ? extends CharSequence > mapper,
-      final char separator
-    ) {
+    DoublePipe pipe (
+      @NotNull Pipe < ? super Double > pipe
+    );
 
-      requireNonNull ( mapper );
 
-      return foldTo (
-        first
-          -> new StringBuilder ()
-          .append (
-            mapper.apply (
-              first
-            )
-          ),
-        ( result, next )
-          -> result.append ( separator )
-          .append (
-            mapper.apply (
-              next
-            )
-          )
-      );
+    /// Returns a fiber that passes only values within `[lower, upper]`. Stateless.
+    ///
+    /// @param lower the inclusive lower bound
+    /// @param upper the inclusive upper bound
+    /// @return A fiber with the operator appended
+    /// @throws IllegalArgumentException if `lower > upper` or either bound is `NaN`
+    /// @see Fiber#range(Object, Object)
+    /// @since 3.0
 
-    }
+    @NotNull
+    DoubleFiber range (
+      double lower,
+      double upper
+    );
 
 
-    /// Returns a `CharSequence` representation of this extent and its enclosures.
+    /// Returns a fiber that folds each value into a running accumulator and emits the updated accumulator. Stateful.
     ///
-    /// @param mapper    the function to map extent parts to character sequences
-    /// @param separator the string to use as separator between extent parts
-    /// @return A non-`null` `String` representation.
-    /// @throws NullPointerException if either mapper or separator is `null`
+    /// @param initial the starting accumulator value
+    /// @param op      the operation `(accumulator, input) -> new accumulator`
+    /// @return A fiber with the operator appended
+    /// @throws NullPointerException if op is `null`
+    /// @see Fiber#reduce(Object, BinaryOperator)
+    /// @since 3.0
 
     @NotNull
-    default CharSequence path (
-      @NotNull final Function < ? super P, ? extends CharSequence > mapper,
-      @NotNull final String separator
-    ) {
+    DoubleFiber reduce (
+      double initial,
+      @NotNull DoubleBinaryOperator op
+    );
 
-      requireNonNull ( mapper );
-      requireNonNull ( separator );
 
-      return foldTo (
-        first
-          -> new StringBuilder ()
-          .append (
-            mapper.apply (
-              first
-            )
-          ),
-        ( result, next )
-          -> result.append ( separator )
-          .append (
-            mapper.apply (
-              next
-            )
-          )
-      );
+    /// Returns a fiber that transforms each value via a unary operator. Stateless.
+    ///
+    /// @param op the unary operator
+    /// @return A fiber with the operator appended
+    /// @throws NullPointerException if op is `null`
+    /// @see Fiber#replace(UnaryOperator)
+    /// @since 3.0
 
-    }
+    @NotNull
+    DoubleFiber replace (
+      @NotNull DoubleUnaryOperator op
+    );
 
 
-    /// Returns a `Stream` containing each enclosing extent starting with `this`.
+    /// Returns a fiber that folds each value into a sliding window of `size` values and, once warmed up,
+    /// emits the window aggregate on each emission. The window is held in a
+    /// primitive ring allocated at materialization. Stateful.
     ///
-    /// @return A `Stream` in which the first element is `this` extent instance, and the
-    /// last is the value returned from the [#extremity()] method.
-    /// @see #iterator()
-    /// @see #extremity()
+    /// @param size     the sliding-window size (positive)
+    /// @param combiner the operation `(accumulator, input) -> new accumulator`
+    /// @param identity the fold identity
+    /// @return A fiber with the operator appended
+    /// @throws IllegalArgumentException if size is not positive
+    /// @throws NullPointerException     if combiner is `null`
+    /// @see Fiber#rolling(int, BinaryOperator, Object)
+    /// @since 3.0
 
-    @New
     @NotNull
-    default Stream < P > stream () {
+    DoubleFiber rolling (
+      int size,
+      @NotNull DoubleBinaryOperator combiner,
+      double identity
+    );
 
-      return StreamSupport.stream (
-        Spliterators.spliterator (
-          iterator (),
-          fold (
-            _ -> 1,
-            ( sum, _ )
-              -> sum + 1
-          ).longValue (),
-          DISTINCT | NONNULL | IMMUTABLE
-        ),
-        false
-      );
 
-    }
+    /// Returns a fiber that drops the first `count` emissions and passes all subsequent values. Stateful.
+    ///
+    /// @param count the number of initial emissions to skip (non-negative)
+    /// @return A fiber with the operator appended
+    /// @throws IllegalArgumentException if count is negative
+    /// @see Fiber#skip(long)
+    /// @since 3.0
 
+    @NotNull
+    DoubleFiber skip (
+      long count
+    );
 
-    /// Returns true if this `Extent` is directly or indirectly enclosed within the supplied extent.
+
+    /// Returns a fiber that aggregates fixed-size batches of `size` values into single outputs; after
+    /// `size` values the accumulator is emitted and reset to `identity`. Stateful.
     ///
-    /// @param enclosure the extent to check against, regardless of its generic specialization
-    /// @return `true` if the supplied extent encloses this extent, directly or indirectly
-    /// @throws NullPointerException if the enclosure is `null`
+    /// @param size     the batch size (positive)
+    /// @param combiner the operation `(accumulator, input) -> new accumulator`
+    /// @param identity the fold identity
+    /// @return A fiber with the operator appended
+    /// @throws IllegalArgumentException if size is not positive
+    /// @throws NullPointerException     if combiner is `null`
+    /// @see Fiber#tumble(int, BinaryOperator, Object)
+    /// @since 3.0
 
-    default boolean within (
-      @NotNull final Extent < ?, ? > enclosure
-    ) {
+    @NotNull
+    DoubleFiber tumble (
+      int size,
+      @NotNull DoubleBinaryOperator combiner,
+      double identity
+    );
 
-      requireNonNull ( enclosure );
+  }
 
-      for (
-        var current = enclosure ();
-        current.isPresent ();
-        current = current.get ().enclosure ()
-      ) {
-        if ( current.get () == enclosure ) {
-          return true;
-        }
-      }
 
-      return false;
+  /// Indicates an API that is experimental and subject to change in future releases.
+  ///
+  /// Experimental APIs are not considered stable and may be modified or removed
+  /// without following normal deprecation policies. Use with caution in production code.
+  ///
+  /// @since 1.0
+
+  @SuppressWarnings ( "unused" )
+  @Documented
+  @Retention ( SOURCE )
+  @Target ( {TYPE, METHOD, CONSTRUCTOR, FIELD} )
+  @interface Experimental {
+  }
+
 
-    }
+  /// Indicates a type used by callers or instrumentation kits to extend capabilities.
 
+  @SuppressWarnings ( "WeakerAccess" )
+  @Documented
+  @Retention ( SOURCE )
+  @Target ( TYPE )
+  @interface Extension {
   }
 
 
-  /// Represents a same-type processing fiber — a chain of per-emission stages
-  /// that filter, transform, or observe values of a single type `E` without
-  /// changing the type on its way through.
-  ///
-  /// Fibers carry the type-preserving operators — `guard`, `diff`, `peek`,
-  /// `reduce`, `tumble`, `rolling`, and the rest of the per-emission family.
-  /// They are standalone, reusable values, independent of `Flow`: any sink that
-  /// consumes an `E` can consume a `Fiber<E>` too.
-  ///
-  /// ## Execution Context
-  ///
-  /// Every fiber stage executes on the circuit thread that materialized it.
-  /// Emissions are processed sequentially; each stage observes values in
-  /// deterministic order.
-  ///
-  /// **Circuit-thread execution guarantee**: All fiber operations execute
-  /// exclusively on the circuit thread. This means:
-  ///
-  /// - Fiber operators execute sequentially for each emission
-  /// - No concurrent execution of stages for a given materialization
-  /// - State within operators requires no synchronization
-  /// - Deterministic ordering of emissions through the fiber
-  ///
-  /// **User-provided functions**: All predicates, comparators, binary operators,
-  /// mappers, and peek receptors passed to Fiber methods execute on the
-  /// circuit's processing thread: thread-safe, sequential, and free of
-  /// synchronization for local state. Access to external shared mutable state
-  /// remains the caller's responsibility.
-  ///
-  /// ## State Management
-  ///
-  /// **Stateful operators** maintain internal state across emissions:
-  /// `change`, `chance`, `diff`, `dropWhile`, `every`, `guard(initial, BiPredicate)`,
-  /// `high`, `low`, `integrate`, `limit`, `pulse`, `reduce`, `relate`, `skip`,
-  /// `steady`, `takeWhile`, `tumble`, `rolling`, `delay`, `inhibit`, `hysteresis`,
-  /// `edge`.
-  ///
-  /// **Stateless operators** process each emission independently:
-  /// `above`, `below`, `clamp`, `deadband`, `guard(Predicate)`, `max`, `min`,
-  /// `peek`, `range`, `replace`.
-  ///
-  /// Stateful operators store mutable state without external synchronization —
-  /// they execute exclusively on the circuit thread. Each materialization of a
-  /// fiber carries its own state instance, isolated from other
-  /// materializations of the same value.
-  ///
-  /// ## Composition and Chaining
-  ///
-  /// Fibers are a **forward** builder: operators chained later run later.
-  /// Reading order always equals execution order — no pivots, no inversion:
-  ///
-  /// ```
-  /// fiber.diff().guard(p).peek(o)
-  ///   emit(E) → diff → guard → peek → downstream
-  /// ```
-  ///
-  /// Fibers preserve type, so there is no type-boundary concern to reason
-  /// about. For type-changing composition (`map`, `flow`) see [Flow].
-  ///
-  /// **Performance tips**:
-  /// - Avoid allocations in operator bodies (hot path)
-  /// - Keep fibers short — each stage adds overhead
-  /// - Stateful operators (diff, guard-with-state, reduce) are costlier than
-  ///   stateless (replace, peek)
-  /// - Place cheap filters early to reduce downstream work
-  ///
-  /// ## Lifecycle
-  ///
-  /// Fibers are **immutable standalone values**. They are obtained from
-  /// [Cortex#fiber()] / [Cortex#fiber(Class)], composed via fluent
-  /// chaining, and may be retained, shared, and attached to many sinks
-  /// ([Fiber#pipe(Pipe)] / [Fiber#pipe(Cell)], or wrapped in a [Flow] via
-  /// [Cortex#flow(Fiber)] or [Flow#fiber(Fiber)]). Execution state for stateful operators is
-  /// allocated at materialization, not at configuration — a single fiber
-  /// value may be materialized many times to produce independent operator
-  /// chains, each with its own state.
-  ///
-  /// **Thread safety**: Fiber values are immutable and safe to share across
-  /// threads. Materialized chains, however, run on the circuit thread of the
-  /// sink they are attached to.
-  ///
-  /// **Stateless operator functions**: Client-supplied functions captured by a
-  /// Fiber value are shared by every materialization. Do not fold additional
-  /// mutable state into those functions — the framework owns any state the
-  /// operator logically implies (`reduce` accumulator, `relate` previous input,
-  /// `diff` last-emitted value, etc.) on a per-materialization basis.
-  ///
-  /// ## Exception Handling
-  ///
-  /// A Fiber operator function — any predicate, comparator, binary operator,
-  /// mapper, peek receptor, fire predicate — is external code per SPEC §15.4
-  /// (External Callback Isolation). If such a function throws:
-  ///
-  /// - The exception MUST NOT propagate to the circuit's dispatch loop.
-  /// - The emission is considered dropped for the affected receptor chain.
-  /// - Other receptors on the same channel (with their own chains) still
-  ///   receive the emission.
-  /// - Subsequent emissions continue to flow; stateful state is not rolled
-  ///   back, but a partial result is not treated as a success.
-  /// - How (or whether) the failure is surfaced to observers is
-  ///   implementation-defined.
-  ///
-  /// Supervisory strategies — restart, breaker, fallback, dead-letter — are not
-  /// part of this contract.
+  /// An abstraction of a hierarchically nested structure of enclosed whole-parts.
   ///
-  /// @param <E> the emission type
-  /// @see Cortex#fiber()
-  /// @see Fiber#pipe(Pipe)
-  /// @see Flow
-  /// @since 2.2
+  /// @param <S> the concrete extent type (usually `this`) returned from [#extent()]
+  /// @param <P> the enclosing extent type iterated during traversal
 
-  @Provided
-  interface Fiber < E > {
+  @Abstract
+  @Extension
+  interface Extent < S extends Extent < S, P >, P extends Extent < ?, P > >
+    extends Iterable < P > {
 
-    /// Resolves [Comparator#naturalOrder()] against a pair of probe values so
-    /// that the natural-ordering default methods fail fast at chain-build time
-    /// — via [ClassCastException] — when `E` is not [Comparable] or the two
-    /// probes are of incompatible types. The probe evaluates `a.compareTo(b)`,
-    /// exercising cast dispatch on both sides.
+
+    /// Returns the depth of this extent within all enclosures.
     ///
-    /// Single-bound callers ([#above], [#below], [#max], [#min]) pass the same
-    /// value for both arguments, which reduces to `bound.compareTo(bound)` and
-    /// surfaces non-[Comparable] `E` at the call site.
-    ///
-    /// Two-bound callers ([#clamp], [#deadband], [#range]) pass `lower` and
-    /// `upper`, which additionally validates that the two bounds are of
-    /// mutually [Comparable] types.
-    ///
-    /// @param a   the first probe value
-    /// @param b   the second probe value
-    /// @param <E> the fiber's emission type
-    /// @return A comparator backed by [Comparator#naturalOrder()]
-    /// @throws NullPointerException if either probe is `null`
-    /// @throws ClassCastException   if `E` is not [Comparable] or the probes
-    ///                              are of incompatible types
-    /// @since 2.3
-
-    @NotNull
-    @SuppressWarnings ( {"unchecked", "rawtypes", "ResultOfMethodCallIgnored"} )
-    private static < E > Comparator < E > naturalOrder (
-      @NotNull final E a,
-      @NotNull final E b
-    ) {
-
-      requireNonNull ( a );
-      requireNonNull ( b );
-
-      final Comparator < E > comparator =
-        (Comparator) Comparator.naturalOrder ();
+    /// @return The depth of this extent within all enclosures.
 
-      // force runtime comparable check
-      comparator.compare (
-        a,
-        b
-      );
+    default int depth () {
 
       return
-        comparator;
+        fold (
+          _ -> 1,
+          ( depth, _ ) -> depth + 1
+        );
 
     }
 
 
-    /// Returns a fiber that passes only values above the specified lower bound (exclusive).
-    ///
-    /// A value passes if `comparator.compare(value, lower) > 0`. Stateless.
+    /// Returns the (parent/prefix) extent that encloses this extent.
     ///
-    /// @param comparator the comparator defining value ordering
-    /// @param lower      the exclusive lower bound
-    /// @return A fiber that filters values at or below the lower bound
-    /// @throws NullPointerException if comparator or lower is `null`
-    /// @since 2.2
+    /// @return An optional holding the enclosing extent, or empty if none
 
     @NotNull
-    Fiber < E > above (
-      @NotNull Comparator < ? super E > comparator,
-      @NotNull E lower
-    );
+    default Optional < P > enclosure () {
 
+      return Optional.empty ();
 
-    /// Returns a fiber that passes only values above `lower` (exclusive), using
-    /// natural ordering.
-    ///
-    /// Sugar for [#above(Comparator, Object)] with [Comparator#naturalOrder()].
-    /// The lower bound is probed against itself at chain-build time, so a
-    /// [ClassCastException] is raised here — not at a later emission — if `E`
-    /// is not [Comparable].
+    }
+
+
+    /// Applies the given consumer to the enclosing extent if it exists.
     ///
-    /// @param lower the exclusive lower bound
-    /// @return A fiber that filters values at or below the lower bound
-    /// @throws NullPointerException if lower is `null`
-    /// @throws ClassCastException   if `E` is not [Comparable]
-    /// @see #above(Comparator, Object)
-    /// @since 2.3
+    /// @param consumer the consumer to be applied to the enclosing extent
+    /// @throws NullPointerException if the consumer is `null`
 
-    @NotNull
-    default Fiber < E > above (
-      @NotNull final E lower
+    default void enclosure (
+      @NotNull final Consumer < ? super P > consumer
     ) {
 
-      return
-        above (
-          naturalOrder ( lower, lower ),
-          lower
-        );
+      enclosure ()
+        .ifPresent ( consumer );
 
     }
 
 
-    /// Returns a fiber that passes only values below the specified upper bound (exclusive).
-    ///
-    /// A value passes if `comparator.compare(value, upper) < 0`. Stateless.
+    /// Returns the extent instance referenced by `this`.
     ///
-    /// @param comparator the comparator defining value ordering
-    /// @param upper      the exclusive upper bound
-    /// @return A fiber that filters values at or above the upper bound
-    /// @throws NullPointerException if comparator or upper is `null`
-    /// @since 2.2
+    /// @return A reference to this extent instance
 
     @NotNull
-    Fiber < E > below (
-      @NotNull Comparator < ? super E > comparator,
-      @NotNull E upper
-    );
+    @SuppressWarnings ( "unchecked" )
+    default S extent () {
+      return (S) this;
+    }
 
 
-    /// Returns a fiber that passes only values below `upper` (exclusive), using
-    /// natural ordering.
+    /// Returns the outermost (root) extent in the enclosure hierarchy.
     ///
-    /// Sugar for [#below(Comparator, Object)] with [Comparator#naturalOrder()].
-    /// The upper bound is probed against itself at chain-build time, so a
-    /// [ClassCastException] is raised here — not at a later emission — if `E`
-    /// is not [Comparable].
+    /// Traverses the enclosure chain from this extent to find the root - the extent
+    /// that has no enclosure. For a single-level extent (no enclosure), returns `this`.
     ///
-    /// @param upper the exclusive upper bound
-    /// @return A fiber that filters values at or above the upper bound
-    /// @throws NullPointerException if upper is `null`
-    /// @throws ClassCastException   if `E` is not [Comparable]
-    /// @see #below(Comparator, Object)
-    /// @since 2.3
+    /// This is the opposite endpoint from `this` in the hierarchy:
+    /// - [#iterator()] traverses from `this` toward [#extremity()]
+    /// - [#extremity()] returns the final element that iterator would reach
+    ///
+    /// ## Example
+    ///
+    /// For a name hierarchy `com.example.service`:
+    /// - `service.extremity()` returns the `com` extent
+    /// - `com.extremity()` returns `com` (itself, as it has no enclosure)
+    ///
+    /// ## Performance
+    ///
+    /// This method traverses the entire enclosure chain, so cost is O(depth).
+    /// For deep hierarchies, consider caching the result if called frequently.
+    ///
+    /// @return The root extent (outermost enclosure) in the hierarchy
+    /// @see #enclosure()
+    /// @see #iterator()
+    /// @see #depth()
 
     @NotNull
-    default Fiber < E > below (
-      @NotNull final E upper
-    ) {
+    @SuppressWarnings ( "unchecked" )
+    default P extremity () {
 
-      return
-        below (
-          naturalOrder ( upper, upper ),
-          upper
-        );
+      P prev;
 
-    }
+      var current
+        = (P) extent ();
 
+      do {
 
-    /// Returns a fiber that probabilistically passes emissions. Each emission
-    /// passes with the supplied probability. Stateful.
-    ///
-    /// @param probability the pass probability (in `[0.0, 1.0]`)
-    /// @return A stateful fiber with probabilistic sampling
-    /// @throws IllegalArgumentException if probability is outside `[0.0, 1.0]`
-    /// @since 2.3
+        prev = current;
 
-    @NotNull
-    Fiber < E > chance (
-      double probability
-    );
+        current
+          = current
+          .enclosure ()
+          .orElse ( null );
 
+      } while ( current != null );
 
-    /// Returns a fiber that emits only when a derived key differs from the
-    /// previous emission's key. Key-based distinct: projection-aware variant of
-    /// [#diff()]. Stateful — tracks the previously extracted key.
-    ///
-    /// @param key the function used to extract the comparison key
-    /// @return A stateful fiber that filters out emissions with unchanged keys
-    /// @throws NullPointerException if the key function is `null`
-    /// @see #diff()
-    /// @since 2.2
+      return prev;
 
-    @NotNull
-    Fiber < E > change (
-      @NotNull Function < ? super E, ? > key
-    );
+    }
 
 
-    /// Returns a fiber that clamps values to `[lower, upper]`.
-    /// Below-lower → lower; above-upper → upper; in-range → unchanged. Stateless.
+    /// Produces an accumulated value moving from the right (this) to the left (root) in the extent.
     ///
-    /// @param comparator the comparator defining value ordering
-    /// @param lower      the inclusive lower bound
-    /// @param upper      the inclusive upper bound
-    /// @return A fiber that clamps values to the specified range
-    /// @throws NullPointerException     if any argument is `null`
-    /// @throws IllegalArgumentException if `comparator.compare(lower, upper) > 0`
-    /// @since 2.2
+    /// @param <R>         the return type of the accumulated value
+    /// @param initializer the function called to initialize the accumulator
+    /// @param accumulator the function used to add a value to the accumulator
+    /// @return The accumulated result
+    /// @throws NullPointerException if either initializer or accumulator is `null`
 
-    @NotNull
-    Fiber < E > clamp (
-      @NotNull Comparator < ? super E > comparator,
-      @NotNull E lower,
-      @NotNull E upper
-    );
+    default < R > R fold (
+      @NotNull final Function < ? super P, ? extends R > initializer,
+      @NotNull final BiFunction < ? super R, ? super P, R > accumulator
+    ) {
 
+      requireNonNull ( initializer );
+      requireNonNull ( accumulator );
 
-    /// Returns a fiber that clamps values to `[lower, upper]`, using natural ordering.
-    /// Below-lower → lower; above-upper → upper; in-range → unchanged.
-    ///
-    /// Sugar for [#clamp(Comparator, Object, Object)] with [Comparator#naturalOrder()].
-    /// Both bounds are probed against each other at chain-build time, so a
-    /// [ClassCastException] is raised here — not at a later emission — if `E`
-    /// is not [Comparable] or the bounds are of incompatible types.
-    ///
-    /// @param lower the inclusive lower bound
-    /// @param upper the inclusive upper bound
-    /// @return A fiber that clamps values to the specified range
-    /// @throws NullPointerException     if any argument is `null`
-    /// @throws ClassCastException       if `E` is not [Comparable] or the
-    ///                                  bounds are of incompatible types
-    /// @throws IllegalArgumentException if `lower` is greater than `upper`
-    /// @see #clamp(Comparator, Object, Object)
-    /// @since 2.3
+      final var it
+        = iterator ();
 
-    @NotNull
-    default Fiber < E > clamp (
-      @NotNull final E lower,
-      @NotNull final E upper
-    ) {
+      var result
+        = initializer.apply (
+        it.next ()
+      );
 
-      return
-        clamp (
-          naturalOrder ( lower, upper ),
-          lower,
-          upper
+      while ( it.hasNext () ) {
+
+        result
+          = accumulator.apply (
+          result,
+          it.next ()
         );
 
+      }
+
+      return result;
+
     }
 
 
-    /// Returns a fiber that suppresses values within a dead zone and passes values outside it.
-    /// A value passes if below `lower` or above `upper`; in-band values (inclusive edges) drop.
-    /// Stateless.
-    ///
-    /// @param comparator the comparator defining value ordering
-    /// @param lower      the inclusive lower edge of the suppressed band
-    /// @param upper      the inclusive upper edge of the suppressed band
-    /// @return A fiber that drops in-band values and passes out-of-band
-    /// @throws NullPointerException     if any argument is `null`
-    /// @throws IllegalArgumentException if `comparator.compare(lower, upper) > 0`
-    /// @since 2.2
-
-    @NotNull
-    Fiber < E > deadband (
-      @NotNull Comparator < ? super E > comparator,
-      @NotNull E lower,
-      @NotNull E upper
-    );
-
-
-    /// Returns a fiber that suppresses values within a dead zone and passes values outside it,
-    /// using natural ordering. A value passes if below `lower` or above `upper`; in-band
-    /// values (inclusive edges) drop.
-    ///
-    /// Sugar for [#deadband(Comparator, Object, Object)] with [Comparator#naturalOrder()].
-    /// Both bounds are probed against each other at chain-build time, so a
-    /// [ClassCastException] is raised here — not at a later emission — if `E`
-    /// is not [Comparable] or the bounds are of incompatible types.
+    /// Produces an accumulated value moving from the left (root) to the right (this) in the extent.
     ///
-    /// @param lower the inclusive lower edge of the suppressed band
-    /// @param upper the inclusive upper edge of the suppressed band
-    /// @return A fiber that drops in-band values and passes out-of-band
-    /// @throws NullPointerException     if any argument is `null`
-    /// @throws ClassCastException       if `E` is not [Comparable] or the
-    ///                                  bounds are of incompatible types
-    /// @throws IllegalArgumentException if `lower` is greater than `upper`
-    /// @see #deadband(Comparator, Object, Object)
-    /// @since 2.3
+    /// @param <R>         the return type of the accumulated value
+    /// @param initializer the function called to seed the accumulator
+    /// @param accumulator the function used to add a value to the accumulator
+    /// @return The accumulated result
+    /// @throws NullPointerException if either initializer or accumulator is `null`
 
-    @NotNull
-    default Fiber < E > deadband (
-      @NotNull final E lower,
-      @NotNull final E upper
+    @SuppressWarnings ( "unchecked" )
+    default < R > R foldTo (
+      @NotNull final Function < ? super P, ? extends R > initializer,
+      @NotNull final BiFunction < ? super R, ? super P, R > accumulator
     ) {
 
-      return
-        deadband (
-          naturalOrder ( lower, upper ),
-          lower,
-          upper
+      requireNonNull ( initializer );
+      requireNonNull ( accumulator );
+
+      return enclosure ()
+        .map (
+          ( P enclosure ) ->
+            accumulator.apply (
+              enclosure.foldTo (
+                initializer,
+                accumulator
+              ),
+              (P) extent ()
+            )
+        ).orElse (
+          initializer.apply (
+            (P) extent ()
+          )
         );
 
     }
 
 
-    /// Returns a fiber that emits the value received `depth` emissions earlier.
-    /// A ring-buffer lookback primitive. The first `depth` emissions emit `initial`.
+    /// Returns an iterator over the extents moving from the right (`this`) to the left ([#extremity()]).
     ///
-    /// @param depth   the lookback depth (must be positive)
-    /// @param initial the value emitted before `depth` emissions have accumulated
-    /// @return A stateful fiber with temporal displacement
-    /// @throws IllegalArgumentException if depth is not positive
-    /// @throws NullPointerException     if initial is `null`
-    /// @since 2.2
+    /// @return An iterator for traversing over the nested extents, starting with `this` extent instance.
 
+    @New
     @NotNull
-    Fiber < E > delay (
-      int depth,
-      @NotNull E initial
-    );
+    @Override
+    default Iterator < P > iterator () {
 
+      return new Iterator <> () {
 
-    /// Returns a fiber that drops consecutive duplicate emissions.
-    /// Compares each emission against the previously emitted value using
-    /// [Objects#equals]. First emission always passes. Stateful.
-    ///
-    /// @return A stateful fiber that filters out consecutive duplicates
-    /// @since 2.2
+        @SuppressWarnings ( "unchecked" )
+        private P extent = (P) extent ();
 
-    @NotNull
-    Fiber < E > diff ();
+        @Override
+        public boolean hasNext () {
 
+          return extent != null;
 
-    /// Returns a fiber that drops consecutive duplicates, seeded by `initial`.
-    /// The first emission is compared against `initial`; if equal, it is dropped.
-    ///
-    /// @param initial the seed value against which the first emission is compared
-    /// @return A stateful fiber with seeded dedup
-    /// @throws NullPointerException if initial is `null`
-    /// @since 2.2
+        }
 
-    @NotNull
-    Fiber < E > diff (
-      @NotNull E initial
-    );
+        @Override
+        public P next () {
 
+          final var result = extent;
 
-    /// Returns a fiber that suppresses all previously seen emissions.
-    /// Uses a growing set; memory is proportional to stream cardinality.
-    /// Stateful.
-    ///
-    /// @return A stateful fiber that filters all duplicates
-    /// @since 2.5
+          if ( result == null ) {
+            throw new NoSuchElementException ();
+          }
 
-    @NotNull
-    Fiber < E > distinct ();
+          extent
+            = result
+            .enclosure ()
+            .orElse ( null );
 
+          return result;
 
-    /// Returns a fiber that suppresses emissions seen within a FIFO window
-    /// of `capacity` accepted distinct values. When the window is full, the
-    /// oldest accepted value is evicted, allowing that value to pass again.
-    /// Suppressed duplicates do not refresh their position in the window. Stateful.
+        }
+      };
+
+    }
+
+
+    /// Returns a `String` representation of just this extent.
     ///
-    /// @param capacity the maximum number of distinct values tracked
-    /// @return A stateful fiber with bounded duplicate suppression
-    /// @throws IllegalArgumentException if capacity is less than 1
-    /// @since 2.5
+    /// @return A non-`null` `String` representation.
 
     @NotNull
-    Fiber < E > distinct (
-      int capacity
-    );
+    String part ();
 
 
-    /// Returns a fiber that drops leading emissions as long as `predicate` holds,
-    /// then passes all subsequent emissions. Stateful latch.
+    /// Returns a `CharSequence` representation of this extent, including enclosing extents.
+    /// The default implementation uses '/' as a separator. Extensions of this interface
+    /// may override this method to use a different default separator (e.g., [Name] uses '.').
     ///
-    /// @param predicate the predicate controlling the drop window
-    /// @return A stateful fiber with an initial drop window
-    /// @throws NullPointerException if predicate is `null`
-    /// @since 2.2
+    /// @return A non-`null` `CharSequence` representation of this extent and its enclosures.
+    /// @see #path(char)
 
     @NotNull
-    Fiber < E > dropWhile (
-      @NotNull Predicate < ? super E > predicate
-    );
+    default CharSequence path () {
 
+      return
+        path ( '/' );
 
-    /// Returns a fiber that emits on a transition between consecutive values.
-    /// The `transition` bi-predicate decides whether `(prev, curr)` is an edge;
-    /// `initial` seeds `prev` for the first emission. Stateful.
+    }
+
+
+    /// Returns a `CharSequence` representation of this extent and its enclosures.
     ///
-    /// @param initial    the seed value for the previous emission
-    /// @param transition the bi-predicate deciding edge-ness
-    /// @return A stateful fiber with edge detection
-    /// @throws NullPointerException if initial or transition is `null`
-    /// @since 2.2
+    /// @param separator the character to use as separator between extent parts
+    /// @return A non-`null` `String` representation.
 
     @NotNull
-    Fiber < E > edge (
-      @NotNull E initial,
-      @NotNull BiPredicate < ? super E, ? super E > transition
-    );
+    default CharSequence path (
+      final char separator
+    ) {
 
+      return
+        path (
+          Extent::part,
+          separator
+        );
 
-    /// Returns a fiber that emits every Nth value and drops the rest (interval sampling). Stateful.
+    }
+
+
+    /// Returns a `CharSequence` representation of this extent and its enclosures.
     ///
-    /// @param interval the sample interval (positive)
-    /// @return A stateful fiber with interval sampling
-    /// @throws IllegalArgumentException if interval is not positive
-    /// @since 2.3
+    /// @param separator the string to use as separator between extent parts
+    /// @return A non-`null` `String` representation.
+    /// @throws NullPointerException if the separator is `null`
 
     @NotNull
-    Fiber < E > every (
-      int interval
-    );
+    default CharSequence path (
+      @NotNull final String separator
+    ) {
 
+      requireNonNull ( separator );
 
-    /// Returns a fiber that samples values by elapsed processing time. The first
-    /// observed value anchors the interval and is dropped; a later value observed
-    /// after at least `duration` has elapsed is emitted. If more than one
-    /// interval elapsed before that value arrives, the internal clock advances by
-    /// the elapsed interval slots rather than by the late arrival time, avoiding
-    /// drift after overruns. Stateful per materialization.
-    ///
-    /// This is a processing-time sampler: elapsed time is measured when the
-    /// emission reaches this operator on the circuit worker, not when the value
-    /// was originally submitted by the caller. Multiple time-aware operators
-    /// processing the same queued emission may share a provider-cached worker
-    /// timestamp.
+      return
+        path (
+          Extent::part,
+          separator
+        );
+
+    }
+
+
+    /// Returns a `CharSequence` representation of this extent and its enclosures.
     ///
-    /// @param duration the minimum elapsed processing time between emitted values
-    /// @return A stateful fiber with trailing-edge processing-time interval sampling
-    /// @throws NullPointerException     if duration is `null`
-    /// @throws IllegalArgumentException if duration is zero, negative, or cannot be represented in nanoseconds
-    /// @since 2.7
+    /// @param mapper    the function to map extent parts to character sequences
+    /// @param separator the character to use as separator between extent parts
+    /// @return A non-`null` `String` representation.
+    /// @throws NullPointerException if the mapper is `null`
 
     @NotNull
-    Fiber < E > every (
-      @NotNull Duration duration
-    );
+    default CharSequence path (
+      @NotNull final Function < ? super P, ? extends CharSequence > mapper,
+      final char separator
+    ) {
 
+      requireNonNull ( mapper );
 
-    /// Returns a fiber that applies `this` first and then forwards each surviving
-    /// emission through `next`. First-class composition of two same-type recipes
-    /// into a single reusable recipe.
-    ///
-    /// ```
-    /// emit(E) → this (E → E) → next (E → E) → downstream
-    /// ```
-    ///
-    /// Both fibers remain independent values; materialization allocates fresh
-    /// execution state for the stateful operators of each at attachment time
-    /// ([Fiber#pipe(Pipe)]). Composing the same fiber more than once, or with
-    /// itself, is safe — each attachment gets its own state instance.
-    ///
-    /// @param next the fiber that runs after this one
-    /// @return A fiber equivalent to `this` followed by `next`
-    /// @throws NullPointerException if `next` is `null`
-    /// @throws Fault                if `next` is not a runtime-provided implementation
-    /// @see Fiber#pipe(Pipe)
-    /// @see Flow#flow(Flow)
-    /// @since 2.3
+      return foldTo (
+        first
+          -> new StringBuilder ()
+          .append (
+            mapper.apply (
+              first
+            )
+          ),
+        ( result, next )
+          -> result.append ( separator )
+          .append (
+            mapper.apply (
+              next
+            )
+          )
+      );
 
-    @NotNull
-    Fiber < E > fiber (
-      @NotNull Fiber < E > next
-    );
+    }
 
 
-    /// Returns a fiber that conditionally passes emissions based on a predicate.
-    /// Stateless — each emission is evaluated independently.
+    /// Returns a `CharSequence` representation of this extent and its enclosures.
     ///
-    /// @param predicate the predicate that determines whether to pass each emission
-    /// @return A fiber that filters based on the predicate
-    /// @throws NullPointerException if predicate is `null`
-    /// @since 2.2
+    /// @param mapper    the function to map extent parts to character sequences
+    /// @param separator the string to use as separator between extent parts
+    /// @return A non-`null` `String` representation.
+    /// @throws NullPointerException if either mapper or separator is `null`
 
     @NotNull
-    Fiber < E > guard (
-      @NotNull Predicate < ? super E > predicate
-    );
+    default CharSequence path (
+      @NotNull final Function < ? super P, ? extends CharSequence > mapper,
+      @NotNull final String separator
+    ) {
 
+      requireNonNull ( mapper );
+      requireNonNull ( separator );
 
-    /// Returns a fiber that passes only when the `(prev, curr)` bi-predicate holds.
-    /// `initial` seeds `prev`; on pass, `prev` advances to `curr`. Stateful.
-    ///
-    /// @param initial   the seed for the previous value
-    /// @param predicate the bi-predicate controlling pass-through
-    /// @return A stateful fiber with pairwise filtering
-    /// @throws NullPointerException if initial or predicate is `null`
-    /// @since 2.2
+      return foldTo (
+        first
+          -> new StringBuilder ()
+          .append (
+            mapper.apply (
+              first
+            )
+          ),
+        ( result, next )
+          -> result.append ( separator )
+          .append (
+            mapper.apply (
+              next
+            )
+          )
+      );
 
-    @NotNull
-    Fiber < E > guard (
-      @NotNull E initial,
-      @NotNull BiPredicate < ? super E, ? super E > predicate
-    );
+    }
 
 
-    /// Returns a fiber that drops consecutive duplicates, but passes a duplicate
-    /// through as a heartbeat once a run of unchanged values has persisted for at
-    /// least `maxSilence` processing time. Stateful.
-    ///
-    /// A changed value (one that differs from the previously emitted value per
-    /// [Objects#equals], as with [#diff()]) always passes and clears the silence
-    /// timer. While a run of duplicates continues, the **first** duplicate anchors
-    /// the timer and is dropped; a later duplicate observed at least `maxSilence`
-    /// after that anchor passes as a heartbeat (re-emitting the held value
-    /// unchanged) and re-anchors the timer. The first emission always passes.
-    ///
-    /// Silence is therefore measured from when the current run of duplicates was
-    /// first observed, not from the last emitted value: the processing-time clock
-    /// is consulted **only** on duplicate emissions, so a stream of changing
-    /// values costs no more than [#diff()]. A heartbeat means "this value has been
-    /// confirmed stable for `maxSilence`".
-    ///
-    /// Elapsed time is measured when the emission reaches this operator on the
-    /// circuit worker (processing time), not when the value was submitted by the
-    /// caller — the same clock used by [#every(Duration)]. Multiple time-aware
-    /// operators processing the same queued emission may share a provider-cached
-    /// worker timestamp.
+    /// Returns a `Stream` containing each enclosing extent starting with `this`.
     ///
-    /// @param maxSilence the processing time a run of duplicates must persist
-    ///                   before a duplicate is passed through as a heartbeat
-    /// @return A stateful fiber that suppresses consecutive duplicates with a
-    ///         max-silence heartbeat
-    /// @throws NullPointerException     if maxSilence is `null`
-    /// @throws IllegalArgumentException if maxSilence is zero, negative, or cannot
-    ///                                  be represented in nanoseconds
-    /// @see #diff()
-    /// @see #every(Duration)
-    /// @since 2.10
+    /// @return A `Stream` in which the first element is `this` extent instance, and the
+    /// last is the value returned from the [#extremity()] method.
+    /// @see #iterator()
+    /// @see #extremity()
 
+    @New
     @NotNull
-    Fiber < E > heartbeat (
-      @NotNull Duration maxSilence
-    );
-
+    default Stream < P > stream () {
 
-    /// Returns a fiber that passes only values that are new running highs.
-    /// First emission always passes; subsequent emissions pass only if strictly
-    /// greater than the prior high. Stateful.
-    ///
-    /// @param comparator the comparator defining value ordering
-    /// @return A stateful fiber that filters to new highs
-    /// @throws NullPointerException if comparator is `null`
-    /// @since 2.2
+      return StreamSupport.stream (
+        Spliterators.spliterator (
+          iterator (),
+          depth (),
+          DISTINCT | NONNULL | IMMUTABLE
+        ),
+        false
+      );
 
-    @NotNull
-    Fiber < E > high (
-      @NotNull Comparator < ? super E > comparator
-    );
+    }
 
 
-    /// Returns a fiber that latches on above an enter threshold and latches off
-    /// below an exit threshold. Emits only within the latched-on regime. Stateful.
+    /// Returns true if this `Extent` is directly or indirectly enclosed within the supplied extent.
     ///
-    /// @param enter the predicate that opens the gate
-    /// @param exit  the predicate that closes the gate
-    /// @return A stateful fiber with two-threshold hysteresis
-    /// @throws NullPointerException if either predicate is `null`
-    /// @since 2.2
-
-    @NotNull
-    Fiber < E > hysteresis (
-      @NotNull Predicate < ? super E > enter,
-      @NotNull Predicate < ? super E > exit
-    );
-
-
-    /// Returns a fiber that passes the first emission then suppresses the next
-    /// `refractory` emissions, then re-arms. Stateful refractory filter.
+    /// An enclosure is always shallower than what it encloses, so the check
+    /// compares depths first and rejects an extent at the same or a greater
+    /// depth without walking. Otherwise it steps up exactly the depth
+    /// difference and compares identity once. With a cached [#depth()], a
+    /// rejection is O(1) and an acceptance is O(depth difference).
     ///
-    /// @param refractory the number of emissions to suppress after a pass (non-negative)
-    /// @return A stateful fiber with refractory suppression
-    /// @throws IllegalArgumentException if refractory is negative
-    /// @since 2.2
-
-    @NotNull
-    Fiber < E > inhibit (
-      int refractory
-    );
+    /// @param enclosure the extent to check against, regardless of its generic specialization
+    /// @return `true` if the supplied extent encloses this extent, directly or indirectly
+    /// @throws NullPointerException if the enclosure is `null`
 
+    default boolean within (
+      @NotNull final Extent < ?, ? > enclosure
+    ) {
 
-    /// Returns a fiber that accumulates values and fires (emits + resets) when
-    /// the `fire` predicate holds on the accumulator. Stateful.
-    ///
-    /// `initial` may be `null`: it is treated as the fold's starting state and
-    /// passed through to `accumulator` on the first emission. Callers using a
-    /// nullable accumulator must ensure `accumulator` and `fire` handle `null`
-    /// input without throwing.
-    ///
-    /// `accumulator` may return `null`. The `fire` predicate receives that
-    /// `null` state; if the stage fires, the emitted value is still `null` and
-    /// the current emission is filtered by the pipeline.
-    ///
-    /// @param initial     the starting and reset value of the accumulator (may be `null`)
-    /// @param accumulator the binary operation `(state, input) -> new state`;
-    ///                    may return `null`
-    /// @param fire        the predicate deciding when to emit and reset
-    /// @return A stateful fiber with accumulate-and-fire semantics
-    /// @throws NullPointerException if accumulator or fire is `null`
-    /// @since 2.2
+      requireNonNull ( enclosure );
 
-    @NotNull
-    Fiber < E > integrate (
-      E initial,
-      @NotNull BinaryOperator < E > accumulator,
-      @NotNull Predicate < ? super E > fire
-    );
+      var steps =
+        depth () - enclosure.depth ();
 
+      if ( steps <= 0 ) {
+        return false;
+      }
 
-    /// Returns a fiber that passes at most N emissions then blocks all subsequent values.
-    /// Stateful.
-    ///
-    /// @param limit the maximum number of emissions to pass through (non-negative)
-    /// @return A stateful fiber that enforces an emission cap
-    /// @throws IllegalArgumentException if limit is negative
-    /// @since 2.2
+      Extent < ?, ? > current =
+        this;
 
-    @NotNull
-    Fiber < E > limit (
-      long limit
-    );
+      while ( steps-- > 0 ) {
 
+        current =
+          current
+            .enclosure ()
+            .orElse ( null );
 
-    /// Returns a fiber that passes only values that are new running lows.
-    /// First emission always passes; subsequent emissions pass only if strictly
-    /// less than the prior low. Stateful.
-    ///
-    /// @param comparator the comparator defining value ordering
-    /// @return A stateful fiber that filters to new lows
-    /// @throws NullPointerException if comparator is `null`
-    /// @since 2.2
+        if ( current == null ) {
+          return false;
+        }
 
-    @NotNull
-    Fiber < E > low (
-      @NotNull Comparator < ? super E > comparator
-    );
+      }
 
+      return
+        current == enclosure;
 
-    /// Returns a fiber that passes only values at or below `max` (inclusive). Stateless.
-    ///
-    /// @param comparator the comparator defining value ordering
-    /// @param max        the inclusive upper bound
-    /// @return A fiber with an inclusive upper bound
-    /// @throws NullPointerException if any argument is `null`
-    /// @since 2.2
+    }
 
-    @NotNull
-    Fiber < E > max (
-      @NotNull Comparator < ? super E > comparator,
-      @NotNull E max
-    );
+  }
 
 
-    /// Returns a fiber that passes only values at or below `max` (inclusive), using
-    /// natural ordering.
-    ///
-    /// Sugar for [#max(Comparator, Object)] with [Comparator#naturalOrder()].
-    /// The bound is probed against itself at chain-build time, so a
-    /// [ClassCastException] is raised here — not at a later emission — if `E`
-    /// is not [Comparable].
+  /// Represents a same-type processing fiber — a chain of per-emission stages
+  /// that filter, transform, or observe values of a single type `E` without
+  /// changing the type on its way through.
+  ///
+  /// Fibers carry the type-preserving operators — `guard`, `diff`, `peek`,
+  /// `reduce`, `tumble`, `rolling`, and the rest of the per-emission family.
+  /// They are standalone, reusable values, independent of `Flow`: any sink that
+  /// consumes an `E` can consume a `Fiber<E>` too.
+  ///
+  /// ## Execution Context
+  ///
+  /// Every fiber stage executes on the circuit thread that materialized it.
+  /// Emissions are processed sequentially; each stage observes values in
+  /// deterministic order.
+  ///
+  /// **Circuit-thread execution guarantee**: All fiber operations execute
+  /// exclusively on the circuit thread. This means:
+  ///
+  /// - Fiber operators execute sequentially for each emission
+  /// - No concurrent execution of stages for a given materialization
+  /// - State within operators requires no synchronization
+  /// - Deterministic ordering of emissions through the fiber
+  ///
+  /// **User-provided functions**: All predicates, comparators, binary operators,
+  /// mappers, and peek receptors passed to Fiber methods execute on the
+  /// circuit's processing thread: thread-safe, sequential, and free of
+  /// synchronization for local state. Access to external shared mutable state
+  /// remains the caller's responsibility.
+  ///
+  /// ## State Management
+  ///
+  /// **Stateful operators** maintain internal state across emissions:
+  /// `change`, `chance`, `diff`, `dropWhile`, `every`, `guard(initial, BiPredicate)`,
+  /// `high`, `low`, `integrate`, `limit`, `pulse`, `reduce`, `relate`, `skip`,
+  /// `steady`, `takeWhile`, `tumble`, `rolling`, `delay`, `inhibit`, `hysteresis`,
+  /// `edge`.
+  ///
+  /// **Stateless operators** process each emission independently:
+  /// `above`, `below`, `clamp`, `deadband`, `guard(Predicate)`, `max`, `min`,
+  /// `peek`, `range`, `replace`.
+  ///
+  /// Stateful operators store mutable state without external synchronization —
+  /// they execute exclusively on the circuit thread. Each materialization of a
+  /// fiber carries its own state instance, isolated from other
+  /// materializations of the same value.
+  ///
+  /// ## Composition and Chaining
+  ///
+  /// Fibers are a **forward** builder: operators chained later run later.
+  /// Reading order always equals execution order — no pivots, no inversion:
+  ///
+  /// ```
+  /// fiber.diff().guard(p).peek(o)
+  ///   emit(E) → diff → guard → peek → downstream
+  /// ```
+  ///
+  /// Fibers preserve type, so there is no type-boundary concern to reason
+  /// about. For type-changing composition (`map`, `flow`) see [Flow].
+  ///
+  /// **Performance tips**:
+  /// - Avoid allocations in operator bodies (hot path)
+  /// - Keep fibers short — each stateful stage adds per-emission work
+  /// - Stateful operators (diff, guard-with-state, reduce) are costlier than
+  ///   stateless (replace, peek)
+  /// - Place cheap filters early to reduce downstream work
+  ///
+  /// ## Fusion
+  ///
+  /// The operator list of a fiber is a description, not a required runtime
+  /// shape. At materialization — [Fiber#pipe(Pipe)], [Flow#pipe(Pipe)],
+  /// [Conduit#pool(Flow)], and the other attachment points — a provider may
+  /// compile the chain into fewer stages than it has operators: collapsing
+  /// adjacent stateless operators into one stage, specializing a chain into a
+  /// single stage with the stateful operators' state held in its fields, or
+  /// generating a class per chain shape so that every call site in it is
+  /// monomorphic. A fused chain must be observationally equivalent to the
+  /// unfused one:
+  ///
+  /// - Operator functions are invoked in chain order, each exactly as many
+  ///   times as the unfused chain would invoke it, with the same arguments.
+  ///   A filter that rejects an emission still prevents every later operator
+  ///   from running for it.
+  /// - Each stateful operator keeps its own per-materialization state, updated
+  ///   at the point in the chain where it appears.
+  /// - Emissions leave the chain in the same order, with the same values, on the
+  ///   same circuit thread.
+  /// - An exception from an operator function drops the emission at that
+  ///   operator, exactly as described in Exception Handling: earlier operators'
+  ///   effects (including state updates) stand, and later operators do not run.
+  ///
+  /// Because operator functions must be free of shared mutable state (see
+  /// Lifecycle), fusion cannot be observed through them. Whether, and how far,
+  /// a chain is fused is provider-defined and may differ between
+  /// materializations of the same value.
+  ///
+  /// ## Lifecycle
+  ///
+  /// Fibers are **immutable standalone values**. They are obtained from
+  /// [Cortex#fiber()] / [Cortex#fiber(Class)], composed via fluent
+  /// chaining, and may be retained, shared, and attached to many sinks
+  /// ([Fiber#pipe(Pipe)] / [Fiber#pipe(Cell)], or wrapped in a [Flow] via
+  /// [Cortex#flow(Fiber)] or [Flow#fiber(Fiber)]). Execution state for stateful operators is
+  /// allocated at materialization, not at configuration — a single fiber
+  /// value may be materialized many times to produce independent operator
+  /// chains, each with its own state.
+  ///
+  /// **Thread safety**: Fiber values are immutable and safe to share across
+  /// threads. Materialized chains, however, run on the circuit thread of the
+  /// sink they are attached to.
+  ///
+  /// **Stateless operator functions**: Client-supplied functions captured by a
+  /// Fiber value are shared by every materialization. Do not fold additional
+  /// mutable state into those functions — the framework owns any state the
+  /// operator logically implies (`reduce` accumulator, `relate` previous input,
+  /// `diff` last-emitted value, etc.) on a per-materialization basis.
+  ///
+  /// ## Exception Handling
+  ///
+  /// A Fiber operator function — any predicate, comparator, binary operator,
+  /// mapper, peek receptor, fire predicate — is external code per SPEC §15.4
+  /// (External Callback Isolation). If such a function throws:
+  ///
+  /// - The exception MUST NOT propagate to the circuit's dispatch loop.
+  /// - The emission is considered dropped for the affected receptor chain.
+  /// - Other receptors on the same channel (with their own chains) still
+  ///   receive the emission.
+  /// - Subsequent emissions continue to flow; stateful state is not rolled
+  ///   back, but a partial result is not treated as a success.
+  /// - How (or whether) the failure is surfaced to observers is
+  ///   implementation-defined.
+  ///
+  /// Supervisory strategies — restart, breaker, fallback, dead-letter — are not
+  /// part of this contract.
+  ///
+  /// @param <E> the emission type
+  /// @see Cortex#fiber()
+  /// @see Fiber#pipe(Pipe)
+  /// @see Flow
+  /// @since 2.2
+
+  @Provided
+  interface Fiber < E > {
+
+    /// Resolves [Comparator#naturalOrder()] against a pair of probe values so
+    /// that the natural-ordering default methods fail fast at chain-build time
+    /// — via [ClassCastException] — when `E` is not [Comparable] or the two
+    /// probes are of incompatible types. The probe evaluates `a.compareTo(b)`,
+    /// exercising cast dispatch on both sides.
     ///
-    /// @param max the inclusive upper bound
-    /// @return A fiber with an inclusive upper bound
-    /// @throws NullPointerException if max is `null`
-    /// @throws ClassCastException   if `E` is not [Comparable]
-    /// @see #max(Comparator, Object)
+    /// Single-bound callers ([#above], [#below], [#max], [#min]) pass the same
+    /// value for both arguments, which reduces to `bound.compareTo(bound)` and
+    /// surfaces non-[Comparable] `E` at the call site.
+    ///
+    /// Two-bound callers ([#clamp], [#deadband], [#range]) pass `lower` and
+    /// `upper`, which additionally validates that the two bounds are of
+    /// mutually [Comparable] types.
+    ///
+    /// @param a   the first probe value
+    /// @param b   the second probe value
+    /// @param <E> the fiber's emission type
+    /// @return A comparator backed by [Comparator#naturalOrder()]
+    /// @throws NullPointerException if either probe is `null`
+    /// @throws ClassCastException   if `E` is not [Comparable] or the probes
+    ///                              are of incompatible types
     /// @since 2.3
 
     @NotNull
-    default Fiber < E > max (
-      @NotNull final E max
+    @SuppressWarnings ( {"unchecked", "rawtypes", "ResultOfMethodCallIgnored"} )
+    private static < E > Comparator < E > naturalOrder (
+      @NotNull final E a,
+      @NotNull final E b
     ) {
 
+      requireNonNull ( a );
+      requireNonNull ( b );
+
+      final Comparator < E > comparator =
+        (Comparator) Comparator.naturalOrder ();
+
+      // force runtime comparable check
+      comparator.compare (
+        a,
+        b
+      );
+
       return
-        max (
-          naturalOrder ( max, max ),
-          max
-        );
+        comparator;
 
     }
 
 
-    /// Returns a fiber that passes only values at or above `min` (inclusive). Stateless.
+    /// Returns a fiber that passes only values above the specified lower bound (exclusive).
+    ///
+    /// A value passes if `comparator.compare(value, lower) > 0`. Stateless.
     ///
     /// @param comparator the comparator defining value ordering
-    /// @param min        the inclusive lower bound
-    /// @return A fiber with an inclusive lower bound
-    /// @throws NullPointerException if any argument is `null`
+    /// @param lower      the exclusive lower bound
+    /// @return A fiber that filters values at or below the lower bound
+    /// @throws NullPointerException if comparator or lower is `null`
     /// @since 2.2
 
     @NotNull
-    Fiber < E > min (
+    Fiber < E > above (
       @NotNull Comparator < ? super E > comparator,
-      @NotNull E min
+      @NotNull E lower
     );
 
 
-    /// Returns a fiber that passes only values at or above `min` (inclusive), using
+    /// Returns a fiber that passes only values above `lower` (exclusive), using
     /// natural ordering.
     ///
-    /// Sugar for [#min(Comparator, Object)] with [Comparator#naturalOrder()].
-    /// The bound is probed against itself at chain-build time, so a
+    /// Sugar for [#above(Comparator, Object)] with [Comparator#naturalOrder()].
+    /// The lower bound is probed against itself at chain-build time, so a
     /// [ClassCastException] is raised here — not at a later emission — if `E`
     /// is not [Comparable].
     ///
-    /// @param min the inclusive lower bound
-    /// @return A fiber with an inclusive lower bound
-    /// @throws NullPointerException if min is `null`
+    /// @param lower the exclusive lower bound
+    /// @return A fiber that filters values at or below the lower bound
+    /// @throws NullPointerException if lower is `null`
     /// @throws ClassCastException   if `E` is not [Comparable]
-    /// @see #min(Comparator, Object)
+    /// @see #above(Comparator, Object)
     /// @since 2.3
 
     @NotNull
-    default Fiber < E > min (
-      @NotNull final E min
+    default Fiber < E > above (
+      @NotNull final E lower
     ) {
 
       return
-        min (
-          naturalOrder ( min, min ),
-          min
+        above (
+          naturalOrder ( lower, lower ),
+          lower
         );
 
     }
 
 
-    /// Returns a fiber that forwards each emission through a side-effect receptor.
-    /// The receptor is invoked with each emission, then the value is passed to
-    /// downstream. Stateless.
+    /// Returns a fiber that passes only values below the specified upper bound (exclusive).
     ///
-    /// @param receptor the receptor invoked for each emission
-    /// @return A fiber with the peek observer added
-    /// @throws NullPointerException if receptor is `null`
+    /// A value passes if `comparator.compare(value, upper) < 0`. Stateless.
+    ///
+    /// @param comparator the comparator defining value ordering
+    /// @param upper      the exclusive upper bound
+    /// @return A fiber that filters values at or above the upper bound
+    /// @throws NullPointerException if comparator or upper is `null`
     /// @since 2.2
 
     @NotNull
-    Fiber < E > peek (
-      @NotNull Receptor < ? super E > receptor
+    Fiber < E > below (
+      @NotNull Comparator < ? super E > comparator,
+      @NotNull E upper
     );
 
 
-    /// Returns a pipe that applies this fiber's operator chain ahead of the
-    /// supplied pipe on that pipe's circuit.
-    ///
-    /// This is the primary attachment point for a fiber. Since a fiber
-    /// preserves the emission type `E`, the returned pipe carries the
-    /// same `E` — no widening through [Flow] is required.
-    ///
-    /// ## Usage
-    ///
-    /// ```java
-    /// final var fiber = cortex.fiber ( Integer.class )
-    ///   .guard ( v -> v > 0 )
-    ///   .diff ();
-    /// final Pipe < Integer > filtered = fiber.pipe ( sink );
-    /// ```
-    ///
-    /// The fiber materializes on `pipe`'s circuit. For cross-circuit
-    /// parallelism, first hop circuits with [Circuit#pipe(Pipe)], then
-    /// attach the fiber:
+    /// Returns a fiber that passes only values below `upper` (exclusive), using
+    /// natural ordering.
     ///
-    /// ```java
-    /// // terminal receptor on circuit-0
-    /// Pipe < E > sink = circuit0.pipe ( receptor );
-    /// // fiber1 runs on circuit-1, hands off to circuit-0
-    /// Pipe < E > stage1 = fiber1.pipe ( circuit1.pipe ( sink ) );
-    /// // fiber2 runs on circuit-2, hands off to circuit-1, then circuit-0
-    /// Pipe < E > input  = fiber2.pipe ( circuit2.pipe ( stage1 ) );
-    /// ```
+    /// Sugar for [#below(Comparator, Object)] with [Comparator#naturalOrder()].
+    /// The upper bound is probed against itself at chain-build time, so a
+    /// [ClassCastException] is raised here — not at a later emission — if `E`
+    /// is not [Comparable].
     ///
-    /// Each circuit is single-threaded; stages on different circuits run
-    /// concurrently, but the terminal receptor always observes a
-    /// single-threaded view.
-    ///
-    /// @param pipe the pipe to prepend this fiber to
-    /// @return A pipe that applies this fiber before forwarding to `pipe`
-    /// @throws NullPointerException if pipe is `null`
-    /// @throws Fault                if the pipe is not a runtime-provided implementation
-    /// @see Flow#pipe(Pipe)
-    /// @see Circuit#pipe(Pipe)
-    /// @since 2.2
+    /// @param upper the exclusive upper bound
+    /// @return A fiber that filters values at or above the upper bound
+    /// @throws NullPointerException if upper is `null`
+    /// @throws ClassCastException   if `E` is not [Comparable]
+    /// @see #below(Comparator, Object)
+    /// @since 2.3
 
-    @New
     @NotNull
-    Pipe < E > pipe (
-      @NotNull Pipe < E > pipe
-    );
+    default Fiber < E > below (
+      @NotNull final E upper
+    ) {
 
+      return
+        below (
+          naturalOrder ( upper, upper ),
+          upper
+        );
 
-    /// Returns a pipe that applies this fiber's operator chain ahead of the
-    /// supplied cell's update pipe.
-    ///
-    /// Emissions that survive the fiber are forwarded to the cell's update pipe
-    /// and become its published value. Filtered emissions do not update the cell.
+    }
+
+
+    /// Returns a fiber that probabilistically passes emissions. Each emission
+    /// passes with the supplied probability. Stateful.
     ///
-    /// @param cell the cell whose published value is updated by surviving emissions
-    /// @return A pipe that applies this fiber before publishing to `cell`
-    /// @throws NullPointerException if cell is `null`
-    /// @throws Fault                if the cell is not a runtime-provided implementation
-    /// @see Cell#pipe()
-    /// @see #pipe(Pipe)
-    /// @since 2.7
+    /// @param probability the pass probability (in `[0.0, 1.0]`)
+    /// @return A stateful fiber with probabilistic sampling
+    /// @throws IllegalArgumentException if probability is outside `[0.0, 1.0]`
+    /// @since 2.3
 
-    @New
     @NotNull
-    Pipe < E > pipe (
-      @NotNull Cell < E > cell
+    Fiber < E > chance (
+      double probability
     );
 
 
-    /// Returns a fiber that emits only on the rising edge of a predicate —
-    /// the first emission where the predicate transitions from false to true.
-    /// Stateful.
+    /// Returns a fiber that emits only when a derived key differs from the
+    /// previous emission's key. Key-based distinct: projection-aware variant of
+    /// [#diff()]. Stateful — tracks the previously extracted key.
     ///
-    /// @param predicate the predicate tracked for rising edges
-    /// @return A stateful fiber with rising-edge detection
-    /// @throws NullPointerException if predicate is `null`
+    /// @param key the function used to extract the comparison key
+    /// @return A stateful fiber that filters out emissions with unchanged keys
+    /// @throws NullPointerException if the key function is `null`
+    /// @see #diff()
     /// @since 2.2
 
     @NotNull
-    Fiber < E > pulse (
-      @NotNull Predicate < ? super E > predicate
+    Fiber < E > change (
+      @NotNull Function < ? super E, ? > key
     );
 
 
-    /// Returns a fiber that passes only values within `[lower, upper]` (inclusive). Stateless.
+    /// Returns a fiber that clamps values to `[lower, upper]`.
+    /// Below-lower → lower; above-upper → upper; in-range → unchanged. Stateless.
     ///
     /// @param comparator the comparator defining value ordering
     /// @param lower      the inclusive lower bound
     /// @param upper      the inclusive upper bound
-    /// @return A fiber that filters to values within the range
+    /// @return A fiber that clamps values to the specified range
     /// @throws NullPointerException     if any argument is `null`
     /// @throws IllegalArgumentException if `comparator.compare(lower, upper) > 0`
     /// @since 2.2
 
     @NotNull
-    Fiber < E > range (
+    Fiber < E > clamp (
       @NotNull Comparator < ? super E > comparator,
       @NotNull E lower,
       @NotNull E upper
     );
 
 
-    /// Returns a fiber that passes only values within `[lower, upper]` (inclusive),
-    /// using natural ordering.
+    /// Returns a fiber that clamps values to `[lower, upper]`, using natural ordering.
+    /// Below-lower → lower; above-upper → upper; in-range → unchanged.
     ///
-    /// Sugar for [#range(Comparator, Object, Object)] with [Comparator#naturalOrder()].
+    /// Sugar for [#clamp(Comparator, Object, Object)] with [Comparator#naturalOrder()].
     /// Both bounds are probed against each other at chain-build time, so a
     /// [ClassCastException] is raised here — not at a later emission — if `E`
     /// is not [Comparable] or the bounds are of incompatible types.
     ///
     /// @param lower the inclusive lower bound
     /// @param upper the inclusive upper bound
-    /// @return A fiber that filters to values within the range
+    /// @return A fiber that clamps values to the specified range
     /// @throws NullPointerException     if any argument is `null`
     /// @throws ClassCastException       if `E` is not [Comparable] or the
     ///                                  bounds are of incompatible types
     /// @throws IllegalArgumentException if `lower` is greater than `upper`
-    /// @see #range(Comparator, Object, Object)
+    /// @see #clamp(Comparator, Object, Object)
     /// @since 2.3
 
     @NotNull
-    default Fiber < E > range (
+    default Fiber < E > clamp (
       @NotNull final E lower,
       @NotNull final E upper
     ) {
 
       return
-        range (
+        clamp (
           naturalOrder ( lower, upper ),
           lower,
           upper
@@ -4013,291 +5241,925 @@ public interface Substrates {
     }
 
 
-    /// Returns a fiber that folds each emission into a running accumulator and
-    /// emits the updated accumulator. Stateful.
-    ///
-    /// `initial` may be `null`: it is passed through to `op` on the first
-    /// emission. Callers using a nullable accumulator must ensure `op`
-    /// handles `null` input without throwing.
-    ///
-    /// `op` may return `null`. If it does, the accumulator state becomes
-    /// `null`, the current emission is filtered, and subsequent invocations
-    /// receive `null` as the accumulator until `op` returns a value.
+    /// Returns a fiber that suppresses values within a dead zone and passes values outside it.
+    /// A value passes if below `lower` or above `upper`; in-band values (inclusive edges) drop.
+    /// Stateless.
     ///
-    /// @param initial the starting accumulator value (may be `null`)
-    /// @param op      the binary operation `(accumulator, input) -> new accumulator`;
-    ///                may return `null`
-    /// @return A stateful fiber with running fold
-    /// @throws NullPointerException if op is `null`
+    /// @param comparator the comparator defining value ordering
+    /// @param lower      the inclusive lower edge of the suppressed band
+    /// @param upper      the inclusive upper edge of the suppressed band
+    /// @return A fiber that drops in-band values and passes out-of-band
+    /// @throws NullPointerException     if any argument is `null`
+    /// @throws IllegalArgumentException if `comparator.compare(lower, upper) > 0`
     /// @since 2.2
 
     @NotNull
-    Fiber < E > reduce (
-      E initial,
-      @NotNull BinaryOperator < E > op
+    Fiber < E > deadband (
+      @NotNull Comparator < ? super E > comparator,
+      @NotNull E lower,
+      @NotNull E upper
     );
 
 
-    /// Returns a fiber that emits `op(prev_input, curr_input)`. `initial` seeds
-    /// `prev`. The state tracks the previous input, not the output. Stateful.
+    /// Returns a fiber that suppresses values within a dead zone and passes values outside it,
+    /// using natural ordering. A value passes if below `lower` or above `upper`; in-band
+    /// values (inclusive edges) drop.
     ///
-    /// `initial` may be `null`: it is passed to `op` as `prev` on the first
-    /// emission. Callers seeding with `null` must ensure `op` handles a
-    /// `null` previous input without throwing.
+    /// Sugar for [#deadband(Comparator, Object, Object)] with [Comparator#naturalOrder()].
+    /// Both bounds are probed against each other at chain-build time, so a
+    /// [ClassCastException] is raised here — not at a later emission — if `E`
+    /// is not [Comparable] or the bounds are of incompatible types.
     ///
-    /// `op` may return `null` to filter the current emission. The previous
-    /// input state still advances to the current input.
+    /// @param lower the inclusive lower edge of the suppressed band
+    /// @param upper the inclusive upper edge of the suppressed band
+    /// @return A fiber that drops in-band values and passes out-of-band
+    /// @throws NullPointerException     if any argument is `null`
+    /// @throws ClassCastException       if `E` is not [Comparable] or the
+    ///                                  bounds are of incompatible types
+    /// @throws IllegalArgumentException if `lower` is greater than `upper`
+    /// @see #deadband(Comparator, Object, Object)
+    /// @since 2.3
+
+    @NotNull
+    default Fiber < E > deadband (
+      @NotNull final E lower,
+      @NotNull final E upper
+    ) {
+
+      return
+        deadband (
+          naturalOrder ( lower, upper ),
+          lower,
+          upper
+        );
+
+    }
+
+
+    /// Returns a fiber that emits the value received `depth` emissions earlier.
+    /// A ring-buffer lookback primitive. The first `depth` emissions emit `initial`.
     ///
-    /// @param initial the seed for the previous input (may be `null`)
-    /// @param op      the binary operation over `(prev_input, input)`;
-    ///                may return `null`
-    /// @return A stateful fiber with lookback relation
-    /// @throws NullPointerException if op is `null`
+    /// @param depth   the lookback depth (must be positive)
+    /// @param initial the value emitted before `depth` emissions have accumulated
+    /// @return A stateful fiber with temporal displacement
+    /// @throws IllegalArgumentException if depth is not positive
+    /// @throws NullPointerException     if initial is `null`
     /// @since 2.2
 
     @NotNull
-    Fiber < E > relate (
-      E initial,
-      @NotNull BinaryOperator < E > op
+    Fiber < E > delay (
+      int depth,
+      @NotNull E initial
     );
 
 
-    /// Returns a fiber that transforms each value via a unary operator. Stateless.
-    /// A `null` result filters the current emission.
+    /// Returns a fiber that drops consecutive duplicate emissions.
+    /// Compares each emission against the previously emitted value using
+    /// [Objects#equals]. First emission always passes. Stateful.
     ///
-    /// @param op the unary operator
-    /// @return A fiber that replaces each value by applying `op`
-    /// @throws NullPointerException if op is `null`
+    /// @return A stateful fiber that filters out consecutive duplicates
     /// @since 2.2
 
     @NotNull
-    Fiber < E > replace (
-      @NotNull UnaryOperator < E > op
-    );
+    Fiber < E > diff ();
 
 
-    /// Returns a fiber that folds each emission into a sliding window of fixed
-    /// size, emitting the windowed aggregate on each tick once warmed up. Stateful.
-    ///
-    /// `combiner` may return `null`. The fold continues with `null` as the
-    /// accumulator; if the final aggregate is `null`, the current emission is
-    /// filtered.
+    /// Returns a fiber that drops consecutive duplicates, seeded by `initial`.
+    /// The first emission is compared against `initial`; if equal, it is dropped.
     ///
-    /// @param size     the sliding-window size (positive)
-    /// @param combiner the binary operation `(accumulator, input) -> new accumulator`;
-    ///                 may return `null`
-    /// @param identity the fold identity (seed for each window reconstruction)
-    /// @return A stateful fiber with rolling aggregation
-    /// @throws IllegalArgumentException if size is not positive
-    /// @throws NullPointerException     if combiner or identity is `null`
+    /// @param initial the seed value against which the first emission is compared
+    /// @return A stateful fiber with seeded dedup
+    /// @throws NullPointerException if initial is `null`
     /// @since 2.2
 
     @NotNull
-    Fiber < E > rolling (
-      int size,
-      @NotNull BinaryOperator < E > combiner,
-      @NotNull E identity
+    Fiber < E > diff (
+      @NotNull E initial
     );
 
 
-    /// Returns a fiber that dispatches matching emissions to a side pipe and
-    /// drops them from the main pipeline. Non-matching values pass through.
-    /// Combine multiple `route` calls to implement demux / partitioning.
-    /// Stateless.
+    /// Returns a fiber that suppresses all previously seen emissions.
+    /// Uses a growing set; memory is proportional to stream cardinality.
+    /// Stateful.
     ///
-    /// @param predicate determines which emissions are routed
-    /// @param pipe      the destination pipe for matched emissions
-    /// @return A fiber with the conditional routing applied
-    /// @throws NullPointerException if predicate or pipe is `null`
+    /// @return A stateful fiber that filters all duplicates
     /// @since 2.5
 
     @NotNull
-    Fiber < E > route (
-      @NotNull Predicate < ? super E > predicate,
-      @NotNull Pipe < E > pipe
-    );
+    Fiber < E > distinct ();
 
 
-    /// Returns a fiber that drops the first N emissions and passes all subsequent values. Stateful.
+    /// Returns a fiber that suppresses emissions seen within a FIFO window
+    /// of `capacity` accepted distinct values. When the window is full, the
+    /// oldest accepted value is evicted, allowing that value to pass again.
+    /// Suppressed duplicates do not refresh their position in the window. Stateful.
     ///
-    /// @param count the number of initial emissions to skip (non-negative)
-    /// @return A stateful fiber that skips initial emissions
-    /// @throws IllegalArgumentException if count is negative
-    /// @since 2.2
+    /// @param capacity the maximum number of distinct values tracked
+    /// @return A stateful fiber with bounded duplicate suppression
+    /// @throws IllegalArgumentException if capacity is less than 1
+    /// @since 2.5
 
     @NotNull
-    Fiber < E > skip (
-      long count
+    Fiber < E > distinct (
+      int capacity
     );
 
 
-    /// Returns a fiber that emits the Nth confirmation of a stable value using
-    /// [Objects#equals] for equality; after firing, suppresses the rest of the run. Stateful.
+    /// Returns a fiber that drops leading emissions as long as `predicate` holds,
+    /// then passes all subsequent emissions. Stateful latch.
     ///
-    /// @param count the confirmation count (positive)
-    /// @return A stateful fiber with temporal confirmation
-    /// @throws IllegalArgumentException if count is not positive
+    /// @param predicate the predicate controlling the drop window
+    /// @return A stateful fiber with an initial drop window
+    /// @throws NullPointerException if predicate is `null`
     /// @since 2.2
 
     @NotNull
-    Fiber < E > steady (
-      int count
+    Fiber < E > dropWhile (
+      @NotNull Predicate < ? super E > predicate
     );
 
 
-    /// Returns a fiber that emits the Nth confirmation of a stable value using
-    /// a custom equality bi-predicate; after firing, suppresses the rest of the run. Stateful.
+    /// Returns a fiber that emits on a transition between consecutive values.
+    /// The `transition` bi-predicate decides whether `(prev, curr)` is an edge;
+    /// `initial` seeds `prev` for the first emission. Stateful.
     ///
-    /// @param count     the confirmation count (positive)
-    /// @param predicate the equality bi-predicate
-    /// @return A stateful fiber with custom-equality confirmation
-    /// @throws IllegalArgumentException if count is not positive
-    /// @throws NullPointerException     if predicate is `null`
+    /// @param initial    the seed value for the previous emission
+    /// @param transition the bi-predicate deciding edge-ness
+    /// @return A stateful fiber with edge detection
+    /// @throws NullPointerException if initial or transition is `null`
     /// @since 2.2
 
     @NotNull
-    Fiber < E > steady (
-      int count,
-      @NotNull BiPredicate < ? super E, ? super E > predicate
+    Fiber < E > edge (
+      @NotNull E initial,
+      @NotNull BiPredicate < ? super E, ? super E > transition
     );
 
 
-    /// Returns a fiber that emits the Nth consecutive emission matching
-    /// `matches`, then re-arms. A non-matching emission resets the streak
-    /// count to zero and is dropped; matching emissions below the threshold
-    /// are held (no emission, count incremented).
+    /// Returns a fiber that emits every Nth value and drops the rest (interval sampling). Stateful.
     ///
-    /// Stateful per-materialization. The streak counter is allocated when
-    /// this fiber is materialized via [#pipe(Pipe)], so reusing the same
-    /// `Fiber` value across multiple attachments creates independent counters.
+    /// @param interval the sample interval (positive)
+    /// @return A stateful fiber with interval sampling
+    /// @throws IllegalArgumentException if interval is not positive
+    /// @since 2.3
+
+    @NotNull
+    Fiber < E > every (
+      int interval
+    );
+
+
+    /// Returns a fiber that samples values by elapsed processing time. The first
+    /// observed value anchors the interval and is dropped; a later value observed
+    /// after at least `duration` has elapsed is emitted. If more than one
+    /// interval elapsed before that value arrives, the internal clock advances by
+    /// the elapsed interval slots rather than by the late arrival time, avoiding
+    /// drift after overruns. Stateful per materialization.
     ///
-    /// `required == 1` collapses to [#guard(Predicate)] — every match emits;
-    /// no counter state is carried, since with a one-emission threshold
-    /// "increment, fire, reset" reduces to the stateless predicate filter.
+    /// This is a processing-time sampler: elapsed time is measured when the
+    /// emission reaches this operator on the circuit worker, not when the value
+    /// was originally submitted by the caller. Multiple time-aware operators
+    /// processing the same queued emission share one processing-time reading,
+    /// quantized to the circuit's timer resolution when one is configured (see
+    /// [Circuit] — Time).
     ///
-    /// For cumulative-count semantics ("N matches across the stream,
-    /// regardless of intervening misses"), compose [#guard(Predicate)] with
-    /// [#every(int)]: `guard(matches).every(N)`.
+    /// @param duration the minimum elapsed processing time between emitted values
+    /// @return A stateful fiber with trailing-edge processing-time interval sampling
+    /// @throws NullPointerException     if duration is `null`
+    /// @throws IllegalArgumentException if duration is zero, negative, or cannot be represented in nanoseconds
+    /// @since 2.7
+
+    @NotNull
+    Fiber < E > every (
+      @NotNull Duration duration
+    );
+
+
+    /// Returns a fiber that applies `this` first and then forwards each surviving
+    /// emission through `next`. First-class composition of two same-type recipes
+    /// into a single reusable recipe.
     ///
-    /// If `matches` throws, the current emission is dropped and the streak
-    /// counter is left unchanged. A thrown predicate is treated as no
-    /// decision for this stage, not as a non-match.
+    /// ```
+    /// emit(E) → this (E → E) → next (E → E) → downstream
+    /// ```
     ///
-    /// @param required the consecutive-match count required to fire (positive)
-    /// @param matches  the streak-membership predicate
-    /// @return A stateful fiber with consecutive-match thresholding
-    /// @throws IllegalArgumentException if required is not positive
-    /// @throws NullPointerException     if matches is `null`
-    /// @see #guard(Predicate)
-    /// @see #every(int)
-    /// @see #steady(int)
-    /// @since 2.5
+    /// Both fibers remain independent values; materialization allocates fresh
+    /// execution state for the stateful operators of each at attachment time
+    /// ([Fiber#pipe(Pipe)]). Composing the same fiber more than once, or with
+    /// itself, is safe — each attachment gets its own state instance.
+    ///
+    /// @param next the fiber that runs after this one
+    /// @return A fiber equivalent to `this` followed by `next`
+    /// @throws NullPointerException if `next` is `null`
+    /// @throws Fault                if `next` is not a runtime-provided implementation
+    /// @see Fiber#pipe(Pipe)
+    /// @see Flow#flow(Flow)
+    /// @since 2.3
 
     @NotNull
-    Fiber < E > streak (
-      int required,
-      @NotNull Predicate < ? super E > matches
+    Fiber < E > fiber (
+      @NotNull Fiber < E > next
     );
 
 
-    /// Returns a fiber that passes emissions as long as `predicate` holds and
-    /// drops all subsequent emissions once the predicate fails once. Stateful.
+    /// Returns a fiber that conditionally passes emissions based on a predicate.
+    /// Stateless — each emission is evaluated independently.
     ///
-    /// @param predicate the pass-through predicate
-    /// @return A stateful fiber with an early-termination window
+    /// @param predicate the predicate that determines whether to pass each emission
+    /// @return A fiber that filters based on the predicate
     /// @throws NullPointerException if predicate is `null`
     /// @since 2.2
 
     @NotNull
-    Fiber < E > takeWhile (
+    Fiber < E > guard (
       @NotNull Predicate < ? super E > predicate
     );
 
 
-    /// Returns a fiber that forwards each emission to a side pipe without
-    /// interrupting the downstream flow. Fan-out semantics: value continues
-    /// after being emitted to `pipe`. Stateless.
-    ///
-    /// <p>Prefer this over `peek(pipe::emit)` when the intent is explicit
-    /// fan-out to a peer pipe rather than a general side-effect receptor.
+    /// Returns a fiber that passes only when the `(prev, curr)` bi-predicate holds.
+    /// `initial` seeds `prev`; on pass, `prev` advances to `curr`. Stateful.
     ///
-    /// @param pipe the pipe that receives each emission
-    /// @return A fiber with the side-pipe fan-out added
-    /// @throws NullPointerException if pipe is `null`
-    /// @since 2.5
+    /// @param initial   the seed for the previous value
+    /// @param predicate the bi-predicate controlling pass-through
+    /// @return A stateful fiber with pairwise filtering
+    /// @throws NullPointerException if initial or predicate is `null`
+    /// @since 2.2
 
     @NotNull
-    Fiber < E > tee (
-      @NotNull Pipe < E > pipe
+    Fiber < E > guard (
+      @NotNull E initial,
+      @NotNull BiPredicate < ? super E, ? super E > predicate
     );
 
 
-    /// Returns a fiber that aggregates fixed-size batches of emissions into
-    /// single outputs. After `size` emissions the accumulator is emitted and reset. Stateful.
+    /// Returns a fiber that drops consecutive duplicates, but passes a duplicate
+    /// through as a heartbeat once a run of unchanged values has persisted for at
+    /// least `maxSilence` processing time. Stateful.
     ///
-    /// `combiner` may return `null`. The accumulator state becomes `null`; if
-    /// the batch fires with a `null` accumulator, that emission is filtered and
-    /// the state resets to `identity`.
+    /// A changed value (one that differs from the previously emitted value per
+    /// [Objects#equals], as with [#diff()]) always passes and clears the silence
+    /// timer. While a run of duplicates continues, the **first** duplicate anchors
+    /// the timer and is dropped; a later duplicate observed at least `maxSilence`
+    /// after that anchor passes as a heartbeat (re-emitting the held value
+    /// unchanged) and re-anchors the timer. The first emission always passes.
     ///
-    /// @param size     the batch size (positive)
-    /// @param combiner the binary operation `(accumulator, input) -> new accumulator`;
-    ///                 may return `null`
-    /// @param identity the fold identity (seed for each batch)
-    /// @return A stateful fiber with tumbling aggregation
-    /// @throws IllegalArgumentException if size is not positive
-    /// @throws NullPointerException     if combiner or identity is `null`
-    /// @since 2.2
+    /// Silence is therefore measured from when the current run of duplicates was
+    /// first observed, not from the last emitted value: the processing-time clock
+    /// is consulted **only** on duplicate emissions, so a stream of changing
+    /// values costs no more than [#diff()]. A heartbeat means "this value has been
+    /// confirmed stable for `maxSilence`".
+    ///
+    /// Elapsed time is measured when the emission reaches this operator on the
+    /// circuit worker (processing time), not when the value was submitted by the
+    /// caller — the same clock used by [#every(Duration)]. Multiple time-aware
+    /// operators processing the same queued emission share one processing-time
+    /// reading. With a timer resolution configured, the check is a read of the
+    /// circuit's cached tick time, cheap enough to leave a heartbeat on every
+    /// channel of a large conduit.
+    ///
+    /// @param maxSilence the processing time a run of duplicates must persist
+    ///                   before a duplicate is passed through as a heartbeat
+    /// @return A stateful fiber that suppresses consecutive duplicates with a
+    ///         max-silence heartbeat
+    /// @throws NullPointerException     if maxSilence is `null`
+    /// @throws IllegalArgumentException if maxSilence is zero, negative, or cannot
+    ///                                  be represented in nanoseconds
+    /// @see #diff()
+    /// @see #every(Duration)
+    /// @since 2.10
 
     @NotNull
-    Fiber < E > tumble (
-      int size,
-      @NotNull BinaryOperator < E > combiner,
-      @NotNull E identity
+    Fiber < E > heartbeat (
+      @NotNull Duration maxSilence
     );
 
 
-    /// Returns a fiber that conditionally routes emissions through an inline
-    /// sub-fiber when `predicate` matches. On no match the value passes through
-    /// unchanged. On match the value traverses the sub-fiber; whatever emerges
-    /// (including suppression) rejoins the main pipeline at this position.
+    /// Returns a fiber that passes only values that are new running highs.
+    /// First emission always passes; subsequent emissions pass only if strictly
+    /// greater than the prior high. Stateful.
     ///
-    /// <p>Multiple `when` stages compose independently: a value may match several
-    /// predicates in sequence, each applying its own sub-fiber. Predicate
-    /// exclusivity is the caller's responsibility.
+    /// @param comparator the comparator defining value ordering
+    /// @return A stateful fiber that filters to new highs
+    /// @throws NullPointerException if comparator is `null`
+    /// @since 2.2
+
+    @NotNull
+    Fiber < E > high (
+      @NotNull Comparator < ? super E > comparator
+    );
+
+
+    /// Returns a fiber that latches on above an enter threshold and latches off
+    /// below an exit threshold. Emits only within the latched-on regime. Stateful.
     ///
-    /// @param predicate determines which emissions enter the sub-fiber
-    /// @param fiber     the sub-fiber recipe applied on match
-    /// @return A fiber with the conditional branch inserted
-    /// @throws NullPointerException if predicate or fiber is `null`
-    /// @since 2.5
+    /// @param enter the predicate that opens the gate
+    /// @param exit  the predicate that closes the gate
+    /// @return A stateful fiber with two-threshold hysteresis
+    /// @throws NullPointerException if either predicate is `null`
+    /// @since 2.2
 
     @NotNull
-    Fiber < E > when (
-      @NotNull Predicate < ? super E > predicate,
-      @NotNull Fiber < E > fiber
+    Fiber < E > hysteresis (
+      @NotNull Predicate < ? super E > enter,
+      @NotNull Predicate < ? super E > exit
     );
 
-  }
 
+    /// Returns a fiber that passes the first emission then suppresses the next
+    /// `refractory` emissions, then re-arms. Stateful refractory filter.
+    ///
+    /// @param refractory the number of emissions to suppress after a pass (non-negative)
+    /// @return A stateful fiber with refractory suppression
+    /// @throws IllegalArgumentException if refractory is negative
+    /// @since 2.2
 
-  /// Left-to-right composition surface (optionally type-changing) for assembling pipeline segments.
-  ///
-  /// `Flow<I,O>` is the narrow vocabulary for operators that cross type
-  /// boundaries or append output-side stages. Per-emission, same-type operators
-  /// (diff, guard, peek, limit, every, chance, reduce, ...) live on [Fiber] and
-  /// can be attached to a Flow at the output side via [#fiber(Fiber)].
-  ///
-  /// ## Operator Vocabulary
-  ///
-  /// - [#map(Function)] — append a type-changing transformation (`O → P`)
-  /// - [#scan(Supplier, BiFunction)] — emit the running state itself (`O → S`)
-  /// - [#scan(Supplier, BiFunction, Function)] — append a stateful type-changing fold (`O → P`)
-  /// - [#scan(Supplier, BiFunction, BiFunction)] — input-aware variant (projection sees `(state, input)`)
-  /// - [#window(int)] — append a bounded rolling [Window] view at the output side
-  /// - [#run()] — turn each admission into a [Run] carrying its run length
-  /// - [#change()] — emit a [Change] at each run boundary (from value → to value, with length)
-  /// - [#fiber(Fiber)] — append a same-type [Fiber] at the output side
-  /// - [#fiber(Function)] — append a subject-aware same-type Fiber at the output side
+    @NotNull
+    Fiber < E > inhibit (
+      int refractory
+    );
+
+
+    /// Returns a fiber that accumulates values and fires (emits + resets) when
+    /// the `fire` predicate holds on the accumulator. Stateful.
+    ///
+    /// `initial` may be `null`: it is treated as the fold's starting state and
+    /// passed through to `accumulator` on the first emission. Callers using a
+    /// nullable accumulator must ensure `accumulator` and `fire` handle `null`
+    /// input without throwing.
+    ///
+    /// `accumulator` may return `null`. The `fire` predicate receives that
+    /// `null` state; if the stage fires, the emitted value is still `null` and
+    /// the current emission is filtered by the pipeline.
+    ///
+    /// @param initial     the starting and reset value of the accumulator (may be `null`)
+    /// @param accumulator the binary operation `(state, input) -> new state`;
+    ///                    may return `null`
+    /// @param fire        the predicate deciding when to emit and reset
+    /// @return A stateful fiber with accumulate-and-fire semantics
+    /// @throws NullPointerException if accumulator or fire is `null`
+    /// @since 2.2
+
+    @NotNull
+    Fiber < E > integrate (
+      E initial,
+      @NotNull BinaryOperator < E > accumulator,
+      @NotNull Predicate < ? super E > fire
+    );
+
+
+    /// Returns a fiber that passes at most N emissions then blocks all subsequent values.
+    /// Stateful.
+    ///
+    /// @param limit the maximum number of emissions to pass through (non-negative)
+    /// @return A stateful fiber that enforces an emission cap
+    /// @throws IllegalArgumentException if limit is negative
+    /// @since 2.2
+
+    @NotNull
+    Fiber < E > limit (
+      long limit
+    );
+
+
+    /// Returns a fiber that passes only values that are new running lows.
+    /// First emission always passes; subsequent emissions pass only if strictly
+    /// less than the prior low. Stateful.
+    ///
+    /// @param comparator the comparator defining value ordering
+    /// @return A stateful fiber that filters to new lows
+    /// @throws NullPointerException if comparator is `null`
+    /// @since 2.2
+
+    @NotNull
+    Fiber < E > low (
+      @NotNull Comparator < ? super E > comparator
+    );
+
+
+    /// Returns a fiber that passes only values at or below `max` (inclusive). Stateless.
+    ///
+    /// @param comparator the comparator defining value ordering
+    /// @param max        the inclusive upper bound
+    /// @return A fiber with an inclusive upper bound
+    /// @throws NullPointerException if any argument is `null`
+    /// @since 2.2
+
+    @NotNull
+    Fiber < E > max (
+      @NotNull Comparator < ? super E > comparator,
+      @NotNull E max
+    );
+
+
+    /// Returns a fiber that passes only values at or below `max` (inclusive), using
+    /// natural ordering.
+    ///
+    /// Sugar for [#max(Comparator, Object)] with [Comparator#naturalOrder()].
+    /// The bound is probed against itself at chain-build time, so a
+    /// [ClassCastException] is raised here — not at a later emission — if `E`
+    /// is not [Comparable].
+    ///
+    /// @param max the inclusive upper bound
+    /// @return A fiber with an inclusive upper bound
+    /// @throws NullPointerException if max is `null`
+    /// @throws ClassCastException   if `E` is not [Comparable]
+    /// @see #max(Comparator, Object)
+    /// @since 2.3
+
+    @NotNull
+    default Fiber < E > max (
+      @NotNull final E max
+    ) {
+
+      return
+        max (
+          naturalOrder ( max, max ),
+          max
+        );
+
+    }
+
+
+    /// Returns a fiber that passes only values at or above `min` (inclusive). Stateless.
+    ///
+    /// @param comparator the comparator defining value ordering
+    /// @param min        the inclusive lower bound
+    /// @return A fiber with an inclusive lower bound
+    /// @throws NullPointerException if any argument is `null`
+    /// @since 2.2
+
+    @NotNull
+    Fiber < E > min (
+      @NotNull Comparator < ? super E > comparator,
+      @NotNull E min
+    );
+
+
+    /// Returns a fiber that passes only values at or above `min` (inclusive), using
+    /// natural ordering.
+    ///
+    /// Sugar for [#min(Comparator, Object)] with [Comparator#naturalOrder()].
+    /// The bound is probed against itself at chain-build time, so a
+    /// [ClassCastException] is raised here — not at a later emission — if `E`
+    /// is not [Comparable].
+    ///
+    /// @param min the inclusive lower bound
+    /// @return A fiber with an inclusive lower bound
+    /// @throws NullPointerException if min is `null`
+    /// @throws ClassCastException   if `E` is not [Comparable]
+    /// @see #min(Comparator, Object)
+    /// @since 2.3
+
+    @NotNull
+    default Fiber < E > min (
+      @NotNull final E min
+    ) {
+
+      return
+        min (
+          naturalOrder ( min, min ),
+          min
+        );
+
+    }
+
+
+    /// Returns a fiber that forwards each emission through a side-effect receptor.
+    /// The receptor is invoked with each emission, then the value is passed to
+    /// downstream. Stateless.
+    ///
+    /// @param receptor the receptor invoked for each emission
+    /// @return A fiber with the peek observer added
+    /// @throws NullPointerException if receptor is `null`
+    /// @since 2.2
+
+    @NotNull
+    Fiber < E > peek (
+      @NotNull Receptor < ? super E > receptor
+    );
+
+
+    /// Returns a pipe that applies this fiber's operator chain ahead of the
+    /// supplied pipe on that pipe's circuit.
+    ///
+    /// This is the primary attachment point for a fiber. Since a fiber
+    /// preserves the emission type `E`, the returned pipe carries the
+    /// same `E` — no widening through [Flow] is required.
+    ///
+    /// ## Usage
+    ///
+    /// ```java
+    /// final var fiber = cortex.fiber ( Integer.class )
+    ///   .guard ( v -> v > 0 )
+    ///   .diff ();
+    /// final Pipe < Integer > filtered = fiber.pipe ( sink );
+    /// ```
+    ///
+    /// The fiber materializes on `pipe`'s circuit. For cross-circuit
+    /// parallelism, first hop circuits with [Circuit#pipe(Pipe)], then
+    /// attach the fiber:
+    ///
+    /// ```java
+    /// // terminal receptor on circuit-0
+    /// Pipe < E > sink = circuit0.pipe ( receptor );
+    /// // fiber1 runs on circuit-1, hands off to circuit-0
+    /// Pipe < E > stage1 = fiber1.pipe ( circuit1.pipe ( sink ) );
+    /// // fiber2 runs on circuit-2, hands off to circuit-1, then circuit-0
+    /// Pipe < E > input  = fiber2.pipe ( circuit2.pipe ( stage1 ) );
+    /// ```
+    ///
+    /// Each circuit is single-threaded; stages on different circuits run
+    /// concurrently, but the terminal receptor always observes a
+    /// single-threaded view.
+    ///
+    /// @param pipe the pipe to prepend this fiber to
+    /// @return A pipe that applies this fiber before forwarding to `pipe`
+    /// @throws NullPointerException if pipe is `null`
+    /// @throws Fault                if the pipe is not a runtime-provided implementation
+    /// @see Flow#pipe(Pipe)
+    /// @see Circuit#pipe(Pipe)
+    /// @since 2.2
+
+    @New
+    @NotNull
+    Pipe < E > pipe (
+      @NotNull Pipe < E > pipe
+    );
+
+
+    /// Returns a pipe that applies this fiber's operator chain ahead of the
+    /// supplied cell's update pipe.
+    ///
+    /// Emissions that survive the fiber are forwarded to the cell's update pipe
+    /// and become its published value. Filtered emissions do not update the cell.
+    ///
+    /// @param cell the cell whose published value is updated by surviving emissions
+    /// @return A pipe that applies this fiber before publishing to `cell`
+    /// @throws NullPointerException if cell is `null`
+    /// @throws Fault                if the cell is not a runtime-provided implementation
+    /// @see Cell#pipe()
+    /// @see #pipe(Pipe)
+    /// @since 2.7
+
+    @New
+    @NotNull
+    Pipe < E > pipe (
+      @NotNull Cell < E > cell
+    );
+
+
+    /// Returns a fiber that emits only on the rising edge of a predicate —
+    /// the first emission where the predicate transitions from false to true.
+    /// Stateful.
+    ///
+    /// @param predicate the predicate tracked for rising edges
+    /// @return A stateful fiber with rising-edge detection
+    /// @throws NullPointerException if predicate is `null`
+    /// @since 2.2
+
+    @NotNull
+    Fiber < E > pulse (
+      @NotNull Predicate < ? super E > predicate
+    );
+
+
+    /// Returns a fiber that passes only values within `[lower, upper]` (inclusive). Stateless.
+    ///
+    /// @param comparator the comparator defining value ordering
+    /// @param lower      the inclusive lower bound
+    /// @param upper      the inclusive upper bound
+    /// @return A fiber that filters to values within the range
+    /// @throws NullPointerException     if any argument is `null`
+    /// @throws IllegalArgumentException if `comparator.compare(lower, upper) > 0`
+    /// @since 2.2
+
+    @NotNull
+    Fiber < E > range (
+      @NotNull Comparator < ? super E > comparator,
+      @NotNull E lower,
+      @NotNull E upper
+    );
+
+
+    /// Returns a fiber that passes only values within `[lower, upper]` (inclusive),
+    /// using natural ordering.
+    ///
+    /// Sugar for [#range(Comparator, Object, Object)] with [Comparator#naturalOrder()].
+    /// Both bounds are probed against each other at chain-build time, so a
+    /// [ClassCastException] is raised here — not at a later emission — if `E`
+    /// is not [Comparable] or the bounds are of incompatible types.
+    ///
+    /// @param lower the inclusive lower bound
+    /// @param upper the inclusive upper bound
+    /// @return A fiber that filters to values within the range
+    /// @throws NullPointerException     if any argument is `null`
+    /// @throws ClassCastException       if `E` is not [Comparable] or the
+    ///                                  bounds are of incompatible types
+    /// @throws IllegalArgumentException if `lower` is greater than `upper`
+    /// @see #range(Comparator, Object, Object)
+    /// @since 2.3
+
+    @NotNull
+    default Fiber < E > range (
+      @NotNull final E lower,
+      @NotNull final E upper
+    ) {
+
+      return
+        range (
+          naturalOrder ( lower, upper ),
+          lower,
+          upper
+        );
+
+    }
+
+
+    /// Returns a fiber that folds each emission into a running accumulator and
+    /// emits the updated accumulator. Stateful.
+    ///
+    /// `initial` may be `null`: it is passed through to `op` on the first
+    /// emission. Callers using a nullable accumulator must ensure `op`
+    /// handles `null` input without throwing.
+    ///
+    /// `op` may return `null`. If it does, the accumulator state becomes
+    /// `null`, the current emission is filtered, and subsequent invocations
+    /// receive `null` as the accumulator until `op` returns a value.
+    ///
+    /// @param initial the starting accumulator value (may be `null`)
+    /// @param op      the binary operation `(accumulator, input) -> new accumulator`;
+    ///                may return `null`
+    /// @return A stateful fiber with running fold
+    /// @throws NullPointerException if op is `null`
+    /// @since 2.2
+
+    @NotNull
+    Fiber < E > reduce (
+      E initial,
+      @NotNull BinaryOperator < E > op
+    );
+
+
+    /// Returns a fiber that emits `op(prev_input, curr_input)`. `initial` seeds
+    /// `prev`. The state tracks the previous input, not the output. Stateful.
+    ///
+    /// `initial` may be `null`: it is passed to `op` as `prev` on the first
+    /// emission. Callers seeding with `null` must ensure `op` handles a
+    /// `null` previous input without throwing.
+    ///
+    /// `op` may return `null` to filter the current emission. The previous
+    /// input state still advances to the current input.
+    ///
+    /// @param initial the seed for the previous input (may be `null`)
+    /// @param op      the binary operation over `(prev_input, input)`;
+    ///                may return `null`
+    /// @return A stateful fiber with lookback relation
+    /// @throws NullPointerException if op is `null`
+    /// @since 2.2
+
+    @NotNull
+    Fiber < E > relate (
+      E initial,
+      @NotNull BinaryOperator < E > op
+    );
+
+
+    /// Returns a fiber that transforms each value via a unary operator. Stateless.
+    /// A `null` result filters the current emission.
+    ///
+    /// @param op the unary operator
+    /// @return A fiber that replaces each value by applying `op`
+    /// @throws NullPointerException if op is `null`
+    /// @since 2.2
+
+    @NotNull
+    Fiber < E > replace (
+      @NotNull UnaryOperator < E > op
+    );
+
+
+    /// Returns a fiber that folds each emission into a sliding window of fixed
+    /// size, emitting the windowed aggregate on each tick once warmed up. Stateful.
+    ///
+    /// `combiner` may return `null`. The fold continues with `null` as the
+    /// accumulator; if the final aggregate is `null`, the current emission is
+    /// filtered.
+    ///
+    /// @param size     the sliding-window size (positive)
+    /// @param combiner the binary operation `(accumulator, input) -> new accumulator`;
+    ///                 may return `null`
+    /// @param identity the fold identity (seed for each window reconstruction)
+    /// @return A stateful fiber with rolling aggregation
+    /// @throws IllegalArgumentException if size is not positive
+    /// @throws NullPointerException     if combiner or identity is `null`
+    /// @since 2.2
+
+    @NotNull
+    Fiber < E > rolling (
+      int size,
+      @NotNull BinaryOperator < E > combiner,
+      @NotNull E identity
+    );
+
+
+    /// Returns a fiber that dispatches matching emissions to a side pipe and
+    /// drops them from the main pipeline. Non-matching values pass through.
+    /// Combine multiple `route` calls to implement demux / partitioning.
+    /// Stateless.
+    ///
+    /// @param predicate determines which emissions are routed
+    /// @param pipe      the destination pipe for matched emissions
+    /// @return A fiber with the conditional routing applied
+    /// @throws NullPointerException if predicate or pipe is `null`
+    /// @since 2.5
+
+    @NotNull
+    Fiber < E > route (
+      @NotNull Predicate < ? super E > predicate,
+      @NotNull Pipe < E > pipe
+    );
+
+
+    /// Returns a fiber that drops the first N emissions and passes all subsequent values. Stateful.
+    ///
+    /// @param count the number of initial emissions to skip (non-negative)
+    /// @return A stateful fiber that skips initial emissions
+    /// @throws IllegalArgumentException if count is negative
+    /// @since 2.2
+
+    @NotNull
+    Fiber < E > skip (
+      long count
+    );
+
+
+    /// Returns a fiber that emits the Nth confirmation of a stable value using
+    /// [Objects#equals] for equality; after firing, suppresses the rest of the run. Stateful.
+    ///
+    /// @param count the confirmation count (positive)
+    /// @return A stateful fiber with temporal confirmation
+    /// @throws IllegalArgumentException if count is not positive
+    /// @since 2.2
+
+    @NotNull
+    Fiber < E > steady (
+      int count
+    );
+
+
+    /// Returns a fiber that emits the Nth confirmation of a stable value using
+    /// a custom equality bi-predicate; after firing, suppresses the rest of the run. Stateful.
+    ///
+    /// @param count     the confirmation count (positive)
+    /// @param predicate the equality bi-predicate
+    /// @return A stateful fiber with custom-equality confirmation
+    /// @throws IllegalArgumentException if count is not positive
+    /// @throws NullPointerException     if predicate is `null`
+    /// @since 2.2
+
+    @NotNull
+    Fiber < E > steady (
+      int count,
+      @NotNull BiPredicate < ? super E, ? super E > predicate
+    );
+
+
+    /// Returns a fiber that emits the Nth consecutive emission matching
+    /// `matches`, then re-arms. A non-matching emission resets the streak
+    /// count to zero and is dropped; matching emissions below the threshold
+    /// are held (no emission, count incremented).
+    ///
+    /// Stateful per-materialization. The streak counter is allocated when
+    /// this fiber is materialized via [#pipe(Pipe)], so reusing the same
+    /// `Fiber` value across multiple attachments creates independent counters.
+    ///
+    /// `required == 1` collapses to [#guard(Predicate)] — every match emits;
+    /// no counter state is carried, since with a one-emission threshold
+    /// "increment, fire, reset" reduces to the stateless predicate filter.
+    ///
+    /// For cumulative-count semantics ("N matches across the stream,
+    /// regardless of intervening misses"), compose [#guard(Predicate)] with
+    /// [#every(int)]: `guard(matches).every(N)`.
+    ///
+    /// If `matches` throws, the current emission is dropped and the streak
+    /// counter is left unchanged. A thrown predicate is treated as no
+    /// decision for this stage, not as a non-match.
+    ///
+    /// @param required the consecutive-match count required to fire (positive)
+    /// @param matches  the streak-membership predicate
+    /// @return A stateful fiber with consecutive-match thresholding
+    /// @throws IllegalArgumentException if required is not positive
+    /// @throws NullPointerException     if matches is `null`
+    /// @see #guard(Predicate)
+    /// @see #every(int)
+    /// @see #steady(int)
+    /// @since 2.5
+
+    @NotNull
+    Fiber < E > streak (
+      int required,
+      @NotNull Predicate < ? super E > matches
+    );
+
+
+    /// Returns a fiber that passes emissions as long as `predicate` holds and
+    /// drops all subsequent emissions once the predicate fails once. Stateful.
+    ///
+    /// @param predicate the pass-through predicate
+    /// @return A stateful fiber with an early-termination window
+    /// @throws NullPointerException if predicate is `null`
+    /// @since 2.2
+
+    @NotNull
+    Fiber < E > takeWhile (
+      @NotNull Predicate < ? super E > predicate
+    );
+
+
+    /// Returns a fiber that forwards each emission to a side pipe without
+    /// interrupting the downstream flow. Fan-out semantics: value continues
+    /// after being emitted to `pipe`. Stateless.
+    ///
+    /// <p>Prefer this over `peek(pipe::emit)` when the intent is explicit
+    /// fan-out to a peer pipe rather than a general side-effect receptor.
+    ///
+    /// @param pipe the pipe that receives each emission
+    /// @return A fiber with the side-pipe fan-out added
+    /// @throws NullPointerException if pipe is `null`
+    /// @since 2.5
+
+    @NotNull
+    Fiber < E > tee (
+      @NotNull Pipe < E > pipe
+    );
+
+
+    /// Returns a fiber that aggregates fixed-size batches of emissions into
+    /// single outputs. After `size` emissions the accumulator is emitted and reset. Stateful.
+    ///
+    /// `combiner` may return `null`. The accumulator state becomes `null`; if
+    /// the batch fires with a `null` accumulator, that emission is filtered and
+    /// the state resets to `identity`.
+    ///
+    /// @param size     the batch size (positive)
+    /// @param combiner the binary operation `(accumulator, input) -> new accumulator`;
+    ///                 may return `null`
+    /// @param identity the fold identity (seed for each batch)
+    /// @return A stateful fiber with tumbling aggregation
+    /// @throws IllegalArgumentException if size is not positive
+    /// @throws NullPointerException     if combiner or identity is `null`
+    /// @since 2.2
+
+    @NotNull
+    Fiber < E > tumble (
+      int size,
+      @NotNull BinaryOperator < E > combiner,
+      @NotNull E identity
+    );
+
+
+    /// Returns a fiber that conditionally routes emissions through an inline
+    /// sub-fiber when `predicate` matches. On no match the value passes through
+    /// unchanged. On match the value traverses the sub-fiber; whatever emerges
+    /// (including suppression) rejoins the main pipeline at this position.
+    ///
+    /// <p>Multiple `when` stages compose independently: a value may match several
+    /// predicates in sequence, each applying its own sub-fiber. Predicate
+    /// exclusivity is the caller's responsibility.
+    ///
+    /// @param predicate determines which emissions enter the sub-fiber
+    /// @param fiber     the sub-fiber recipe applied on match
+    /// @return A fiber with the conditional branch inserted
+    /// @throws NullPointerException if predicate or fiber is `null`
+    /// @since 2.5
+
+    @NotNull
+    Fiber < E > when (
+      @NotNull Predicate < ? super E > predicate,
+      @NotNull Fiber < E > fiber
+    );
+
+  }
+
+
+  /// Left-to-right composition surface (optionally type-changing) for assembling pipeline segments.
+  ///
+  /// `Flow<I,O>` is the narrow vocabulary for operators that cross type
+  /// boundaries or append output-side stages. Per-emission, same-type operators
+  /// (diff, guard, peek, limit, every, chance, reduce, ...) live on [Fiber] and
+  /// can be attached to a Flow at the output side via [#fiber(Fiber)].
+  ///
+  /// ## Operator Vocabulary
+  ///
+  /// - [#map(Function)] — append a type-changing transformation (`O → P`)
+  /// - [#scan(Supplier, BiFunction)] — emit the running state itself (`O → S`)
+  /// - [#scan(Supplier, BiFunction, Function)] — append a stateful type-changing fold (`O → P`)
+  /// - [#scan(Supplier, BiFunction, BiFunction)] — input-aware variant (projection sees `(state, input)`)
+  /// - [#window(int)] — append a bounded rolling [Window] view at the output side
+  /// - [#run()] — turn each admission into a [Run] carrying its run length
+  /// - [#change()] — emit a [Change] at each run boundary (from value → to value, with length)
+  /// - [#fiber(Fiber)] — append a same-type [Fiber] at the output side
+  /// - [#fiber(Function)] — append a subject-aware same-type Fiber at the output side
   /// - [#flow(Flow)] — compose with another Flow (optionally type-changing)
   /// - [#flow(Function)] — compose with a subject-aware Flow segment
   ///
@@ -4367,6 +6229,12 @@ public interface Substrates {
   /// materialization time, so a single Flow value can be materialized repeatedly to
   /// produce independent chains each with their own state slots.
   ///
+  /// A provider may fuse a materialized Flow chain — `map`, `scan`, `window`, and
+  /// the operators of an attached Fiber — into fewer stages under the same
+  /// observational-equivalence rules as [Fiber] (see Fusion there): functions run
+  /// in chain order with the same invocation counts, per-stage state stays
+  /// independent, and an exception drops the emission at the throwing stage.
+  ///
   /// **Stateless emission-time functions**: Client-supplied emission-time functions
   /// passed to Flow (the `map` mapper, `scan` step / emit functions, any function
   /// inside an attached Fiber) are captured by the Flow/Fiber value and shared by
@@ -4401,865 +6269,1885 @@ public interface Substrates {
   /// @see Flow#pipe(Pipe)
   /// @since 2.0
 
-  @Provided
-  interface Flow < I, O > {
+  @Provided
+  interface Flow < I, O > {
+
+
+    /// Returns a flow that emits a [Change] only at a run boundary — when an
+    /// admission is value-unequal to its predecessor. The [Change] carries the
+    /// value of the run that just closed ([Change#from()]), the value opening the
+    /// next run ([Change#to()]), and the terminal length the closed run reached
+    /// ([Change#length()]). The first admission opens the first run and emits
+    /// nothing; the open or final run is never reported — its length is observable
+    /// only through [#run()]. Value equality is [Objects#equals]; for changes over
+    /// a derived key, [#map(Function)] to the key first.
+    ///
+    /// The emitted [Change] is a fresh immutable envelope — safe to retain,
+    /// compare, and forward.
+    ///
+    /// ```
+    /// cortex.flow ( Sign.class )
+    ///   .change ()
+    ///   .map ( c -> c.from () + " -> " + c.to () + " (" + c.length () + ")" );
+    /// ```
+    ///
+    /// @return A stateful flow emitting a [Change] of `O` at each run boundary
+    /// @see #run()
+    /// @see Change
+    /// @since 3.0
+
+    @NotNull
+    Flow < I, Change < O > > change ();
+
+
+    /// Returns a flow that attaches `fiber` at the output side of this flow.
+    ///
+    /// This flow runs first (converting `I` to `O`); the surviving `O` value is
+    /// then fed into the fiber, whose surviving output is forwarded to downstream.
+    /// A same-type fiber is a per-emission recipe; attaching it to a Flow lets
+    /// the fiber decorate the flow's output without going through Flow's own
+    /// operator vocabulary.
+    ///
+    /// ```
+    /// emit(I) → this flow (I → O) → fiber (O → O) → downstream
+    /// ```
+    ///
+    /// Use case: apply a reusable fiber recipe (dedupe, guard, rate-limit,
+    /// etc.) as a suffix to a transformation flow.
+    ///
+    /// @param fiber the fiber that runs at the output side
+    /// @return A flow whose pipeline is this flow followed by `fiber`
+    /// @throws NullPointerException if the specified fiber is `null`
+    /// @throws Fault                if the fiber is not a runtime-provided implementation
+    /// @see Fiber
+    /// @see Cortex#flow(Fiber)
+    /// @since 2.3
+
+    @NotNull
+    Flow < I, O > fiber (
+      @NotNull Fiber < O > fiber
+    );
+
+
+    /// Returns a flow that attaches a per-attachment fiber recipe at the output
+    /// side of this flow. The factory is invoked once per [#pipe(Pipe)] call
+    /// with the materialization's subject, producing the fiber recipe to
+    /// materialize for that attachment.
+    ///
+    /// Use this overload when the fiber's configuration depends on the subject —
+    /// for example, when looking up per-subject seed values, rate limits, or
+    /// thresholds from a configuration store keyed by subject name. The factory
+    /// sees the subject's name, identity, and state at attach time, before any
+    /// emissions flow.
+    ///
+    /// ```
+    /// emit(I) → this flow (I → O) → factory.apply(subject) → downstream
+    /// ```
+    ///
+    /// ## Subject Scope
+    ///
+    /// The subject passed to the factory is the materialized pipe's subject,
+    /// whose [Subject#name] is the downstream pipe's name (the named consumer
+    /// where emissions terminate) and whose [Subject#enclosure] is the
+    /// downstream pipe's subject. This is the canonical key for configuration
+    /// lookups: it identifies the conduit-percept or pipe receiving the
+    /// flow's output.
+    ///
+    /// ## Materialization
+    ///
+    /// The factory is called exactly once per [#pipe(Pipe)] attachment. The
+    /// returned Fiber is materialized for that attachment, with independent
+    /// framework-owned per-emission state. Returning a reusable immutable Fiber
+    /// recipe is safe; using captured mutable state as shared per-emission state
+    /// across factory invocations is forbidden because that state would be aliased
+    /// across materializations.
+    ///
+    /// ## Exception Handling
+    ///
+    /// The factory is invoked at attachment time (inside [#pipe(Pipe)]), not
+    /// during emission processing. A factory that throws, returns `null`, or
+    /// returns a fiber from another provider propagates the failure from the
+    /// `pipe(...)` call, the same way any other invalid argument would. Once
+    /// attached, the materialized fiber is subject to the standard External
+    /// Callback Isolation rules for emission-time exceptions.
+    ///
+    /// @param factory a function returning the fiber recipe for a given subject
+    /// @return A flow whose pipeline is this flow followed by the per-subject fiber
+    /// @throws NullPointerException if the specified factory is `null`
+    /// @throws Fault                if the factory returns a fiber that is not a runtime-provided implementation when the returned flow is later attached via [#pipe(Pipe)]
+    /// @see Fiber
+    /// @see Subject
+    /// @see #fiber(Fiber)
+    /// @since 2.4
+
+    @NotNull
+    Flow < I, O > fiber (
+      @NotNull Function < ? super Subject < ? >, ? extends Fiber < O > > factory
+    );
+
+
+    /// Returns a flow that applies `this` first and then forwards each surviving
+    /// emission through `next`. First-class composition of two flow recipes into
+    /// a single reusable recipe, bridging across the output type of `this` and
+    /// the input type of `next`.
+    ///
+    /// ```
+    /// emit(I) → this (I → O) → next (O → P) → downstream
+    /// ```
+    ///
+    /// Both flows remain independent values; framework-owned state slots for
+    /// any stateful stages (for example, an attached [Fiber] or a `scan` state
+    /// slot) are materialized independently at attachment time ([Flow#pipe(Pipe)]).
+    /// Composing the same flow more than once is safe — each attachment gets its
+    /// own framework-owned state slots. User-provided mutable Scan state is
+    /// independent only when the Supplier returns a fresh object per materialization.
+    ///
+    /// @param next the flow that runs after this one
+    /// @param <P>  the output type produced by `next`
+    /// @return A flow equivalent to `this` followed by `next`
+    /// @throws NullPointerException if `next` is `null`
+    /// @throws Fault                if `next` is not a runtime-provided implementation
+    /// @see Flow#pipe(Pipe)
+    /// @see Fiber#fiber(Fiber)
+    /// @since 2.3
+
+    @NotNull
+    < P > Flow < I, P > flow (
+      @NotNull Flow < ? super O, ? extends P > next
+    );
+
+
+    /// Returns a flow that appends a flow segment produced per-attachment by
+    /// `factory`. The factory is invoked once per [#pipe(Pipe)] attachment
+    /// with the materialization's subject, producing the flow segment to
+    /// append for that attachment.
+    ///
+    /// This is the canonical mechanism for per-subject configuration of any
+    /// downstream Flow stage — including stateful operators like
+    /// [#scan(Supplier, BiFunction, Function)]. Per-subject thresholds, baselines,
+    /// seed states, and configuration lookups all flow through this single factory,
+    /// rather than being added as narrow per-operator subject-aware overloads.
+    ///
+    /// ```
+    /// emit(I) → this (I → O) → factory.apply(subject) → P → downstream
+    /// ```
+    ///
+    /// ## Subject Scope
+    ///
+    /// The subject passed to the factory is the materialized pipe's subject,
+    /// whose [Subject#name] is the downstream pipe's name (the named consumer
+    /// where emissions terminate) and whose [Subject#enclosure] is the
+    /// downstream pipe's subject. Same scoping rules as [#fiber(Function)].
+    ///
+    /// ## Materialization
+    ///
+    /// The factory is called exactly once per [#pipe(Pipe)] attachment with
+    /// the materialized subject. The framework materializes whatever Flow the
+    /// factory returns without copying or otherwise enforcing freshness. Returning
+    /// a reusable immutable Flow recipe is safe; using captured mutable state as
+    /// shared per-emission state across factory invocations is forbidden because
+    /// that state would be aliased across materializations. For Scan stages whose
+    /// `S` is mutable, the Scan Supplier is responsible for returning a fresh
+    /// state object per materialization.
+    ///
+    /// ## Exception Handling
+    ///
+    /// The factory is invoked at attachment time (inside [#pipe(Pipe)]), not
+    /// during emission processing. A factory that throws, returns `null`, or
+    /// returns a flow from another provider propagates the failure from the
+    /// `pipe(...)` call, the same way any other invalid argument would. Once
+    /// attached, the materialized flow is subject to the standard External
+    /// Callback Isolation rules for emission-time exceptions.
+    ///
+    /// @param factory a function returning the flow segment for a given subject
+    /// @param <P>     the output type produced by the per-subject segment
+    /// @return A flow whose pipeline is this flow followed by the per-subject segment
+    /// @throws NullPointerException if the specified factory is `null`
+    /// @throws Fault                if the factory returns a flow that is not a runtime-provided implementation when the returned flow is later attached via [#pipe(Pipe)]
+    /// @see #flow(Flow)
+    /// @see #fiber(Function)
+    /// @see Subject
+    /// @since 2.6
+
+    @NotNull
+    < P > Flow < I, P > flow (
+      @NotNull Function < ? super Subject < ? >, ? extends Flow < ? super O, ? extends P > > factory
+    );
+
+
+    /// Returns a flow that appends a type transformation to the pipeline.
+    ///
+    /// The mapper converts outgoing values from type `O` to type `P`, at the output
+    /// side of this flow. The returned `Flow<I, P>` still accepts `I`-typed emissions
+    /// at the input side; each emission flows through the existing pipeline to produce
+    /// `O`, which is then mapped to `P` for the downstream receptor.
+    ///
+    /// ## Data Flow
+    ///
+    /// ```
+    /// emit(I) → ... → O → fn(O) → P → downstream
+    /// ```
+    ///
+    /// ## Null Filtering
+    ///
+    /// If the function returns `null`, the emission is **filtered out** (dropped)
+    /// rather than forwarded to the downstream receptor. This allows the function
+    /// to serve as a combined transform-and-filter operation.
+    ///
+    /// ## Same-Type Transformation
+    ///
+    /// For same-type transforms (`O == P`), `map` also serves as a value replacement
+    /// operator. Null returns filter the emission:
+    ///
+    /// ```java
+    /// flow.map(v -> v * 2)              // double each value
+    /// flow.map(v -> v > 0 ? v : null)   // transform + filter
+    /// ```
+    ///
+    /// ## Combining with Fiber
+    ///
+    /// Per-emission operators (diff, guard, peek, limit, ...) live on [Fiber]
+    /// and are attached at the output side via [#fiber(Fiber)]:
+    ///
+    /// ```java
+    /// // Map I → O, and dedupe on the O side (post-map) via an attached Fiber:
+    /// cortex.flow(I.class)
+    ///   .map(i -> toO(i))
+    ///   .fiber(cortex.fiber(O.class).diff())
+    /// ```
+    ///
+    /// @param fn  the function to transform emissions from O to P; returns `null` to filter
+    /// @param <P> the output type produced by the transformation
+    /// @return A flow with output type `P` that can be chained further
+    /// @throws NullPointerException if fn is `null`
+    /// @see Flow#pipe(Pipe)
+    /// @since 2.0
+
+    @NotNull
+    < P > Flow < I, P > map (
+      @NotNull Function < ? super O, ? extends P > fn
+    );
+
+
+    /// Returns a pipe that applies this flow's pipeline ahead of the supplied pipe
+    /// on that pipe's circuit.
+    ///
+    /// This is the cross-type attachment point for Flow. The flow's output type `O`
+    /// must match the supplied pipe's emission type; the returned pipe carries the
+    /// flow's input type `I`.
+    ///
+    /// ## Usage Patterns
+    ///
+    /// ```java
+    /// // Type transformation:
+    /// cortex.flow ( Integer.class ).map ( i -> "value:" + i ).pipe ( sink )
+    ///
+    /// // Flow with an attached per-emission Fiber recipe:
+    /// cortex.flow ( Integer.class )
+    ///   .map ( i -> "value:" + i )
+    ///   .fiber ( cortex.fiber ( String.class ).guard ( v -> !v.isEmpty () ).diff () )
+    ///   .pipe ( sink )
+    /// ```
+    ///
+    /// ## Data Flow
+    ///
+    /// `map` in a Flow **appends** a downstream transformation. Reading from the
+    /// emit side toward the downstream pipe's receptor:
+    ///
+    /// ```
+    /// Caller thread:       Circuit thread:
+    ///   result.emit(I) ──→ [flow stages, I → ... → O] → pipe's receptor
+    /// ```
+    ///
+    /// When the flow contains no type-changing stages (`map`, `scan`, `window`, or composed
+    /// Flow), `I` and `O` are the same type and the attached Fiber (if any) runs
+    /// on that shared type.
+    ///
+    /// ## Threading Guarantee
+    ///
+    /// All stages in the Flow execute on the circuit's single worker thread.
+    /// Stateful stages (inside an attached Fiber, a Flow `scan` state slot, or
+    /// a Flow `window` rolling window) are safe without synchronization.
+    ///
+    /// @param pipe the pipe to prepend this flow to
+    /// @return A pipe that applies this flow before forwarding to `pipe`
+    /// @throws NullPointerException if pipe is `null`
+    /// @throws Fault                if the pipe is not a runtime-provided implementation
+    /// @see Fiber#pipe(Pipe)
+    /// @see Circuit#pipe(Pipe)
+    /// @since 2.2
+
+    @New
+    @NotNull
+    Pipe < I > pipe (
+      @NotNull Pipe < O > pipe
+    );
+
+
+    /// Returns a pipe that applies this flow's pipeline ahead of the supplied
+    /// cell's update pipe.
+    ///
+    /// Output emissions from the flow are forwarded to the cell's update pipe
+    /// and become its published value. Null outputs from the flow do not update
+    /// the cell.
+    ///
+    /// @param cell the cell whose published value is updated by flow output emissions
+    /// @return A pipe that applies this flow before publishing to `cell`
+    /// @throws NullPointerException if cell is `null`
+    /// @throws Fault                if the cell is not a runtime-provided implementation
+    /// @see Cell#pipe()
+    /// @see #pipe(Pipe)
+    /// @since 2.7
+
+    @New
+    @NotNull
+    Pipe < I > pipe (
+      @NotNull Cell < O > cell
+    );
+
+
+    /// Returns a flow that emits a projection of each consecutive `(prev, curr)`
+    /// relation over the output stream. The type-changing sibling of
+    /// [Fiber#relate(Object, BinaryOperator)]: identical state semantics, with
+    /// the relating function generalized from `(O, O) → O` to `(O, O) → P`.
+    ///
+    /// `op` may return `null` to filter the emission, so a gating use (emit only
+    /// when consecutive values differ, are related in some way, or cross a
+    /// boundary) is expressed by returning `null` on the cases that should not
+    /// fire. Naming a transition between two values — "X became Y" → a single
+    /// derived value — is one such use; the `(prev, curr)` pair is visible to
+    /// `op` but never escapes, so the projected `P` is all that reaches
+    /// downstream.
+    ///
+    /// ```
+    /// emit(I) → ... → O → op(prev, curr) → P → downstream
+    /// ```
+    ///
+    /// ## Lifecycle
+    ///
+    /// `prev` is seeded with `initial` at attach time (per [#pipe(Pipe)]
+    /// materialization) and advances to the current value on **every**
+    /// emission — including emissions for which `op` returns `null`. Filtering
+    /// does not freeze `prev`; the next pair is always
+    /// `(most-recent-value, next-value)`.
+    ///
+    /// ## Per Emission
+    ///
+    /// On each emission of `O`:
+    /// 1. `p` captures the current `prev`
+    /// 2. `prev` advances to the incoming value
+    /// 3. `op.apply(p, curr)` produces the downstream value of type `P`
+    /// 4. If `op` returns `null`, the emission is filtered (downstream sees nothing)
+    ///
+    /// ## Null Handling
+    ///
+    /// `initial` may be `null`; the first invocation then receives `null` as
+    /// `prev`. `op` may return `null` to filter. Callers using a nullable seed
+    /// must ensure `op` handles a `null` `prev` without throwing.
+    ///
+    /// ## Exception Handling
+    ///
+    /// If `op` throws, the current emission is dropped. `prev` has already
+    /// advanced to the incoming value; the next emission proceeds from the
+    /// advanced `prev`.
+    ///
+    /// ## Example: Naming a Status Transition
+    ///
+    /// ```java
+    /// cortex.flow ( Status.class )
+    ///   .relate (
+    ///     Status.NOMINAL,
+    ///     ( prev, curr ) ->
+    ///       prev == curr            ? null
+    ///       : curr == Status.SATURATED ? Transition.ENTERED_SATURATED
+    ///       : prev == Status.SATURATED ? Transition.LEFT_SATURATED
+    ///       : null
+    ///   );
+    /// ```
+    ///
+    /// @param initial the seed value for `prev` before the first emission
+    /// @param op      the projection from `(prev, curr)` to output;
+    ///                may return `null` to filter
+    /// @param <P>     the output type
+    /// @return A stateful flow projecting the consecutive-value relation
+    /// @throws NullPointerException if `op` is `null`
+    /// @see Fiber#relate(Object, BinaryOperator)
+    /// @see #scan(Supplier, BiFunction, BiFunction)
+    /// @since 2.10
+
+    @NotNull
+    < P > Flow < I, P > relate (
+      O initial,
+      @NotNull BiFunction < ? super O, ? super O, ? extends P > op
+    );
+
+
+    /// Returns a flow that turns each admission into a [Run] envelope carrying the
+    /// emission and its consecutive-run length. The length is `1` on the first
+    /// admission and after every change, and increments while the value repeats.
+    /// Consecutive repetition is decided by value equality ([Objects#equals]);
+    /// for runs over a derived key, [#map(Function)] to the key first.
+    ///
+    /// The emitted [Run] is a fresh immutable envelope — safe to retain,
+    /// compare, and forward.
+    ///
+    /// ```
+    /// cortex.flow ( Sign.class )
+    ///   .run ()
+    ///   .map ( r -> r.emission () + " x" + r.length () );
+    /// ```
+    ///
+    /// @return A stateful flow turning each `O` into a [Run] of `O`
+    /// @see #change()
+    /// @see Run
+    /// @since 3.0
+
+    @NotNull
+    Flow < I, Run < O > > run ();
+
+
+    /// Returns a flow that folds each emission into a running state and emits
+    /// a projection of `(state, current input)`. Input-aware variant of
+    /// [#scan(Supplier, BiFunction, Function)] — use when the projection needs
+    /// the current sample alongside the running state, as in z-scores,
+    /// residuals, and anomaly scoring against a running baseline.
+    ///
+    /// All other semantics — lifecycle, null handling, exception handling —
+    /// are identical to the state-only variant; see
+    /// [#scan(Supplier, BiFunction, Function)] for the full contract.
+    ///
+    /// ## Example: Z-Score Against Running Mean and Variance
+    ///
+    /// ```java
+    /// record Stats ( long count, double mean, double m2 ) {}
+    /// cortex.flow ( Double.class )
+    ///   .scan (
+    ///     () -> new Stats ( 0L, 0.0, 0.0 ),
+    ///     ( s, v ) -> {
+    ///       final long   n     = s.count () + 1L;
+    ///       final double delta = v - s.mean ();
+    ///       final double mean  = s.mean () + delta / n;
+    ///       final double m2    = s.m2 () + delta * ( v - mean );
+    ///       return new Stats ( n, mean, m2 );
+    ///     },
+    ///     ( s, v ) -> {
+    ///       if ( s.count () < 2L ) return null;
+    ///       final double variance = s.m2 () / ( s.count () - 1L );
+    ///       return ( v - s.mean () ) / Math.sqrt ( variance );
+    ///     }
+    ///   );
+    /// ```
+    ///
+    /// @param initial the per-attachment factory for the initial state
+    /// @param step    the binary operation `(state, input) -> next state`;
+    ///                may return `null`
+    /// @param emit    the projection from `(state, input)` to output;
+    ///                may return `null` to filter
+    /// @param <S>     the state type
+    /// @param <P>     the output type
+    /// @return A stateful flow with running fold and input-aware projection
+    /// @throws NullPointerException if any argument is `null`
+    /// @see #scan(Supplier, BiFunction, Function)
+    /// @see #flow(Function)
+    /// @since 2.6
+
+    @NotNull
+    < S, P > Flow < I, P > scan (
+      @NotNull Supplier < ? extends S > initial,
+      @NotNull BiFunction < ? super S, ? super O, ? extends S > step,
+      @NotNull BiFunction < ? super S, ? super O, ? extends P > emit
+    );
+
+
+    /// Returns a flow that folds each emission into a running state and emits
+    /// a projection of that state. Stateful per-materialization; state type
+    /// `S` is independent of input `O` and output `P`.
+    ///
+    /// `scan` is the type-changing sibling of [Fiber#reduce(Object, BinaryOperator)].
+    /// Where `reduce` collapses state and emission type to a single `E`, `scan`
+    /// separates them — enabling running summary statistics whose state shape
+    /// (e.g., `(sum, count)`, `(count, mean, M2)`) differs from both input and
+    /// output (e.g., `Integer` in, `Double` out).
+    ///
+    /// ```
+    /// emit(I) → ... → O → step(state, O) → state' → emit(state') → P → downstream
+    /// ```
+    ///
+    /// ## Lifecycle
+    ///
+    /// `initial` is invoked exactly once per [#pipe(Pipe)] attachment, at attach
+    /// time (not lazily on first emission). The Supplier is the per-attachment
+    /// hook for state allocation: the framework stores whatever the Supplier
+    /// returns as the initial slot value, without copying or otherwise
+    /// enforcing freshness. For mutable `S`, callers MUST return a fresh
+    /// instance from each invocation — a Supplier that returns a shared
+    /// mutable object will alias state across attachments. For immutable /
+    /// value-typed `S` (`Long`, records, etc.), returning the same reference
+    /// is safe.
+    ///
+    /// For per-subject seed configuration (per-subject baselines, per-subject
+    /// `α` values, per-subject thresholds), compose via [#flow(Function)] —
+    /// the canonical subject-aware path. There is intentionally no
+    /// subject-aware `scan` overload; one general factory carries all
+    /// per-attachment subject variation.
+    ///
+    /// ## Per Emission
+    ///
+    /// On each emission of `O`:
+    /// 1. `step.apply(currentState, emission)` produces the next state
+    /// 2. The stored state reference is replaced with the result
+    /// 3. `emit.apply(newState)` produces the downstream value of type `P`
+    /// 4. If `emit` returns `null`, the emission is filtered (downstream sees nothing)
+    ///
+    /// ## Null Handling
+    ///
+    /// `initial` may return `null`; subsequent `step` invocations receive
+    /// `null` as `prev` until updated. `step` may return `null`; the next
+    /// state becomes `null` and `emit` receives `null`. `emit` may return
+    /// `null` to filter the emission. Callers using nullable state must
+    /// ensure `step` and `emit` handle `null` without throwing.
+    ///
+    /// ## Exception Handling
+    ///
+    /// If `step` throws, the scan stage does not replace its stored state
+    /// reference; side effects or in-place mutations performed by `step`
+    /// before throwing are not undone. The current emission is dropped.
+    ///
+    /// If `emit` throws, the current emission is dropped. State has already
+    /// been advanced by `step`; the next emission proceeds from the advanced
+    /// state.
+    ///
+    /// ## Example: Running Mean
+    ///
+    /// ```java
+    /// record Mean ( long sum, long count ) {}
+    /// cortex.flow ( Integer.class )
+    ///   .scan (
+    ///     () -> new Mean ( 0L, 0L ),
+    ///     ( m, v ) -> new Mean ( m.sum () + v, m.count () + 1L ),
+    ///     m -> m.count () == 0L ? null : (double) m.sum () / m.count ()
+    ///   );
+    /// ```
+    ///
+    /// @param initial the per-attachment factory for the initial state (invoked once at attach time)
+    /// @param step    the binary operation `(state, input) -> next state`;
+    ///                may return `null`
+    /// @param emit    the projection from state to output value;
+    ///                may return `null` to filter
+    /// @param <S>     the state type (independent of `O` and `P`)
+    /// @param <P>     the output type
+    /// @return A stateful flow with running fold and state projection
+    /// @throws NullPointerException if any argument is `null`
+    /// @see #scan(Supplier, BiFunction, BiFunction)
+    /// @see #flow(Function)
+    /// @see Fiber#reduce(Object, BinaryOperator)
+    /// @since 2.6
+
+    @NotNull
+    < S, P > Flow < I, P > scan (
+      @NotNull Supplier < ? extends S > initial,
+      @NotNull BiFunction < ? super S, ? super O, ? extends S > step,
+      @NotNull Function < ? super S, ? extends P > emit
+    );
+
+
+    /// Returns a flow that folds each emission into a running state and emits
+    /// that state directly. Stateful per-materialization; state type `S` is
+    /// independent of input `O`, and the downstream output is exactly `S`.
+    ///
+    /// This is the state-as-output form of [#scan(Supplier, BiFunction, Function)].
+    /// It is equivalent to:
+    ///
+    /// ```java
+    /// scan(initial, step, Function.identity())
+    /// ```
+    ///
+    /// ## Publication Contract
+    ///
+    /// Because the scan state is emitted directly, `S` must be safe to publish
+    /// downstream as a value. Use this overload for immutable or effectively
+    /// immutable accumulator state: records, value objects, boxed values, and
+    /// other states that downstream consumers cannot mutate after publication.
+    ///
+    /// A `step` function may return the same `S` reference when that reference
+    /// is immutable and represents the correct next state. The API does not
+    /// require or check reference freshness.
+    ///
+    /// For mutable working state, use [#scan(Supplier, BiFunction, Function)]
+    /// and make the projection return an immutable snapshot or other safe
+    /// public value. Publishing a mutable accumulator directly can leak the
+    /// framework-owned state slot to downstream consumers.
+    ///
+    /// ## Cell Usage
+    ///
+    /// This overload is the concise way to publish an immutable running state to
+    /// a [Cell]:
+    ///
+    /// ```java
+    /// record Drawdown(double equity, double peak, double drawdown) {}
+    ///
+    /// Cell<Drawdown> cell = circuit.cell(new Drawdown(1.0, 1.0, 0.0));
+    ///
+    /// Pipe<Double> returns =
+    ///   cortex.flow(Double.class)
+    ///         .scan(
+    ///           () -> new Drawdown(1.0, 1.0, 0.0),
+    ///           (s, r) -> {
+    ///             double equity = s.equity() * (1.0 + r);
+    ///             double peak = Math.max(s.peak(), equity);
+    ///             return new Drawdown(equity, peak, (equity / peak) - 1.0);
+    ///           })
+    ///         .pipe(cell);
+    /// ```
+    ///
+    /// Lifecycle, null handling, and exception handling are identical to
+    /// [#scan(Supplier, BiFunction, Function)].
+    ///
+    /// @param initial the per-attachment factory for the initial state (invoked once at attach time)
+    /// @param step    the binary operation `(state, input) -> next state`;
+    ///                may return `null`
+    /// @param <S>     the immutable/effectively immutable state and output type
+    /// @return A stateful flow that emits its running state
+    /// @throws NullPointerException if `initial` or `step` is `null`
+    /// @see #scan(Supplier, BiFunction, Function)
+    /// @see #flow(Function)
+    /// @see Cell
+    /// @since 2.8
+
+    @NotNull
+    default < S > Flow < I, S > scan (
+      @NotNull final Supplier < ? extends S > initial,
+      @NotNull final BiFunction < ? super S, ? super O, ? extends S > step
+    ) {
+
+      requireNonNull ( initial );
+      requireNonNull ( step );
 
+      return
+        scan (
+          initial,
+          step,
+          Function.identity ()
+        );
 
-    /// Returns a flow that emits a [Change] only at a run boundary — when an
-    /// admission is value-unequal to its predecessor. The [Change] carries the
-    /// value of the run that just closed ([Change#from()]), the value opening the
-    /// next run ([Change#to()]), and the terminal length the closed run reached
-    /// ([Change#length()]). The first admission opens the first run and emits
-    /// nothing; the open or final run is never reported — its length is observable
-    /// only through [#run()]. Value equality is [Objects#equals]; for changes over
-    /// a derived key, [#map(Function)] to the key first.
+    }
+
+
+    /// Returns a flow that emits a bounded rolling [Window] of the most recent
+    /// surviving output values.
     ///
-    /// The emitted [Change] is a fresh immutable envelope — safe to retain,
-    /// compare, and forward.
+    /// `window` runs at the output side of this flow. Upstream stages first
+    /// transform and filter the incoming `I` emission into a surviving `O`;
+    /// the `O` value is then appended to this operator's per-materialization
+    /// ring, and a temporal window view is emitted downstream.
     ///
     /// ```
-    /// cortex.flow ( Sign.class )
-    ///   .change ()
-    ///   .map ( c -> c.from () + " -> " + c.to () + " (" + c.length () + ")" );
+    /// emit(I) -> this flow (I -> O) -> window(count) -> Window<O> -> downstream
     /// ```
     ///
-    /// @return A stateful flow emitting a [Change] of `O` at each run boundary
-    /// @see #run()
-    /// @see Change
-    /// @since 3.0
+    /// ## Window Semantics
+    ///
+    /// - A window is emitted after every surviving upstream `O` value.
+    /// - Each emitted window contains at most `count` values.
+    /// - Until `count` values have survived, the emitted window contains the
+    ///   available prefix.
+    /// - Root windows emitted here are never empty: the first surviving upstream
+    ///   value produces a one-element window.
+    /// - The emitted root window's encounter order is oldest to newest.
+    /// - Derived window views may define another encounter order; [Window]
+    ///   operations use the current view's encounter order.
+    /// - Emitted windows are temporal views over a worker-thread-local ring; a
+    ///   provider may reuse the same window object for later emissions.
+    /// - A window must be consumed during the receiving callback. Receptors and
+    ///   fibers must not store, emit, or pipe the window reference into another
+    ///   pipeline. Retain or forward copied values, not the window reference.
+    /// - The operator is stateful per materialization; attaching the same Flow
+    ///   more than once creates independent rolling windows.
+    ///
+    /// There is intentionally no unbounded `window()` overload. Unbounded
+    /// history retention is a different policy and can exhaust memory under a
+    /// long-running or high-rate feed.
+    ///
+    /// ## Lifetime Enforcement
+    ///
+    /// The callback-scoped lifetime of an emitted [Window] is enforced at
+    /// runtime: the next operator invoked on a view that escaped its
+    /// originating callback throws [Fault]. See [Window] for the full
+    /// rules. This means stale views — from `Fiber.diff()` on `Window<O>`,
+    /// from forwarding a `Pipe<Window<O>>`, or from storing the window in a
+    /// receptor field — fail loudly rather than returning silently incorrect
+    /// values.
+    ///
+    /// @param count the maximum number of recent values retained per emitted window
+    /// @return A flow whose output is a bounded rolling [Window] of this flow's output values
+    /// @throws IllegalArgumentException if count is less than 1
+    /// @see Window
+    /// @see Flow#pipe(Pipe)
+    /// @see Fiber#rolling(int, BinaryOperator, Object)
+    /// @since 2.6
 
     @NotNull
-    Flow < I, Change < O > > change ();
+    Flow < I, Window < O > > window (
+      int count
+    );
 
 
-    /// Returns a flow that attaches `fiber` at the output side of this flow.
+    /// Returns a flow that emits a rolling [Window] of the output values
+    /// observed within the last `duration`, limited to at most `capacity`
+    /// retained values.
     ///
-    /// This flow runs first (converting `I` to `O`); the surviving `O` value is
-    /// then fed into the fiber, whose surviving output is forwarded to downstream.
-    /// A same-type fiber is a per-emission recipe; attaching it to a Flow lets
-    /// the fiber decorate the flow's output without going through Flow's own
-    /// operator vocabulary.
+    /// `window(duration, capacity)` runs at the output side of this flow. Upstream
+    /// stages first transform and filter the incoming `I` emission into a
+    /// surviving `O`; old retained values are then evicted by processing time,
+    /// the new value is appended, and a temporal window view is emitted
+    /// downstream.
     ///
     /// ```
-    /// emit(I) → this flow (I → O) → fiber (O → O) → downstream
+    /// emit(I) -> this flow (I -> O) -> window(duration, capacity) -> Window<O> -> downstream
     /// ```
     ///
-    /// Use case: apply a reusable fiber recipe (dedupe, guard, rate-limit,
-    /// etc.) as a suffix to a transformation flow.
+    /// ## Window Semantics
     ///
-    /// @param fiber the fiber that runs at the output side
-    /// @return A flow whose pipeline is this flow followed by `fiber`
-    /// @throws NullPointerException if the specified fiber is `null`
-    /// @throws Fault                if the fiber is not a runtime-provided implementation
-    /// @see Fiber
-    /// @see Cortex#flow(Fiber)
-    /// @since 2.3
+    /// - A window is emitted after every surviving upstream `O` value.
+    /// - Each emitted window contains values observed no earlier than
+    ///   `duration` before the current emission's valve processing time.
+    /// - Each emitted window contains at most `capacity` values.
+    /// - Under high input rates, the capacity bound may evict older values that
+    ///   are still within the duration bound.
+    /// - Root windows emitted here are never empty: the current surviving
+    ///   upstream value is always included.
+    /// - The emitted root window's encounter order is oldest to newest.
+    /// - The processing timestamp is captured from the circuit worker, not from
+    ///   the external caller that submitted the value. It is the *stimulus time*
+    ///   of the ingress chain: every emission a single ingress (external, ticker,
+    ///   or cross-circuit) submission cascades into shares one reading, so internal
+    ///   cause-effect within a cascade is co-temporal. Time advances per ingress,
+    ///   not per internal transit hop, and is quantized to the circuit's timer
+    ///   resolution when one is configured.
+    /// - Emitted windows are temporal views over a worker-thread-local ring; a
+    ///   provider may reuse the same window object for later emissions.
+    /// - A window must be consumed during the receiving callback. Receptors and
+    ///   fibers must not store, emit, or pipe the window reference into another
+    ///   pipeline. Retain or forward copied values, not the window reference.
+    /// - The operator is stateful per materialization; attaching the same Flow
+    ///   more than once creates independent rolling windows.
+    ///
+    /// There is intentionally no duration-only overload. Time retention is not a
+    /// memory bound; callers must choose an explicit capacity.
+    ///
+    /// @param duration the processing-time duration retained by each emitted window
+    /// @param capacity the maximum number of recent values retained per emitted window
+    /// @return A flow whose output is a time-bounded and capacity-bounded rolling [Window]
+    /// @throws NullPointerException     if duration is `null`
+    /// @throws IllegalArgumentException if duration is zero, negative, or cannot be represented in nanoseconds
+    /// @throws IllegalArgumentException if capacity is less than 1
+    /// @see Window
+    /// @see #window(int)
+    /// @since 2.7
 
     @NotNull
-    Flow < I, O > fiber (
-      @NotNull Fiber < O > fiber
+    Flow < I, Window < O > > window (
+      @NotNull Duration duration,
+      int capacity
     );
 
+  }
+
+
+  /// A unique identifier that distinguishes subject instances within a runtime.
+  ///
+  /// Each [Subject] has an associated [Id] that uniquely identifies that specific
+  /// subject instance. Two subjects with identical names but different instances will
+  /// have different Ids.
+  ///
+  /// ## Uniqueness Guarantees
+  ///
+  /// IDs are unique within a single JVM/runtime instance:
+  /// - Each subject instance receives a distinct [Id]
+  /// - IDs remain stable for the lifetime of the subject
+  /// - IDs are NOT guaranteed unique across JVM restarts or distributed processes
+  ///
+  /// ## Equality Semantics
+  ///
+  /// Marked with `@Identity`, [Id] implementations use **reference equality**:
+  /// - Two [Id] references are equal if and only if they refer to the same object
+  /// - Use `==` for comparison, not `.equals()`
+  /// - Hash codes are inherited from [Object] (identity hash code)
+  /// - This provides O(1) comparison performance
+  ///
+  /// ## Usage
+  ///
+  /// IDs are primarily used internally for subject tracking and discrimination. API
+  /// users typically rely on [Name] for hierarchical identification and subject
+  /// lookup. Use [Id] when you need to verify exact subject instance identity.
+  ///
+  /// ## Implementation Note
+  ///
+  /// This is a marker interface - the SPI provides concrete implementations. API users
+  /// never construct [Id] instances directly; they are obtained via [Subject#id()].
+  ///
+  /// @see Subject#id()
+  /// @see Name
+  /// @see Substrate
+
+  @Tenure ( Tenure.INTERNED )
+  @Provided
+  @Identity
+  @Immutable
+  interface Id {
+  }
+
+  /// Indicates a method expected to be idempotent.
+  @SuppressWarnings ( "WeakerAccess" )
+  @Documented
+  @Retention ( SOURCE )
+  @Target ( METHOD )
+  @interface Idempotent {
+  }
+
+  /// Indicates a type whose instances can be compared by (object) reference for equality.
+
+  @SuppressWarnings ( "WeakerAccess" )
+  @Documented
+  @Retention ( SOURCE )
+  @Target ( TYPE )
+  @interface Identity {
+  }
+
+  /// Indicates a type whose API-visible state is fixed for the lifetime of an
+  /// instance.
+  ///
+  /// Immutable types do not expose mutation. Operations that appear to change
+  /// the value return either the same instance or another instance, leaving the
+  /// original unchanged. The annotation is shallow: values returned from a type
+  /// may have their own mutability unless the value type is also documented or
+  /// annotated as immutable.
+
+  @SuppressWarnings ( "WeakerAccess" )
+  @Documented
+  @Retention ( SOURCE )
+  @Target ( TYPE )
+  @interface Immutable {
+  }
+
+  /// A conduit whose channels carry `int` emissions without boxing.
+  ///
+  /// The `int` counterpart of [LongConduit]: channel pipes are [IntPipe]s, and
+  /// registered [IntPipe]s and [IntReceptor]s receive the primitive value directly.
+  /// Other registrants receive a boxed `Integer`, created at most once per emission.
+  /// In every other respect it is an ordinary `Conduit<Integer>`.
+  ///
+  /// @see LongConduit
+  /// @see Circuit#intConduit(Name, Routing)
+  /// @since 3.0
+
+  @Tenure ( Tenure.EPHEMERAL )
+  @Provided
+  interface IntConduit
+    extends Conduit < Integer > {
 
-    /// Returns a flow that attaches a per-attachment fiber recipe at the output
-    /// side of this flow. The factory is invoked once per [#pipe(Pipe)] call
-    /// with the materialization's subject, producing the fiber recipe to
-    /// materialize for that attachment.
-    ///
-    /// Use this overload when the fiber's configuration depends on the subject —
-    /// for example, when looking up per-subject seed values, rate limits, or
-    /// thresholds from a configuration store keyed by subject name. The factory
-    /// sees the subject's name, identity, and state at attach time, before any
-    /// emissions flow.
-    ///
-    /// ```
-    /// emit(I) → this flow (I → O) → factory.apply(subject) → downstream
-    /// ```
-    ///
-    /// ## Subject Scope
-    ///
-    /// The subject passed to the factory is the materialized pipe's subject,
-    /// whose [Subject#name] is the downstream pipe's name (the named consumer
-    /// where emissions terminate) and whose [Subject#enclosure] is the
-    /// downstream pipe's subject. This is the canonical key for configuration
-    /// lookups: it identifies the conduit-percept or pipe receiving the
-    /// flow's output.
-    ///
-    /// ## Materialization
-    ///
-    /// The factory is called exactly once per [#pipe(Pipe)] attachment. The
-    /// returned Fiber is materialized for that attachment, with independent
-    /// framework-owned per-emission state. Returning a reusable immutable Fiber
-    /// recipe is safe; using captured mutable state as shared per-emission state
-    /// across factory invocations is forbidden because that state would be aliased
-    /// across materializations.
+    /// Returns the specialized channel pipe for the given name.
     ///
-    /// ## Exception Handling
-    ///
-    /// The factory is invoked at attachment time (inside [#pipe(Pipe)]), not
-    /// during emission processing. A factory that throws, returns `null`, or
-    /// returns a fiber from another provider propagates the failure from the
-    /// `pipe(...)` call, the same way any other invalid argument would. Once
-    /// attached, the materialized fiber is subject to the standard External
-    /// Callback Isolation rules for emission-time exceptions.
+    /// Identity and caching follow [Pool#get(Name)]: the same name always
+    /// yields the same pipe instance.
     ///
-    /// @param factory a function returning the fiber recipe for a given subject
-    /// @return A flow whose pipeline is this flow followed by the per-subject fiber
-    /// @throws NullPointerException if the specified factory is `null`
-    /// @throws Fault                if the factory returns a fiber that is not a runtime-provided implementation when the returned flow is later attached via [#pipe(Pipe)]
-    /// @see Fiber
-    /// @see Subject
-    /// @see #fiber(Fiber)
-    /// @since 2.4
+    /// @param name the name identifying the channel
+    /// @return The `int` pipe for this channel
+    /// @throws NullPointerException if name is `null`
+    /// @throws Fault                if the name parameter is not a runtime-provided implementation
 
+    @Override
     @NotNull
-    Flow < I, O > fiber (
-      @NotNull Function < ? super Subject < ? >, ? extends Fiber < O > > factory
+    IntPipe get (
+      @NotNull Name name
     );
 
 
-    /// Returns a flow that applies `this` first and then forwards each surviving
-    /// emission through `next`. First-class composition of two flow recipes into
-    /// a single reusable recipe, bridging across the output type of `this` and
-    /// the input type of `next`.
-    ///
-    /// ```
-    /// emit(I) → this (I → O) → next (O → P) → downstream
-    /// ```
-    ///
-    /// Both flows remain independent values; framework-owned state slots for
-    /// any stateful stages (for example, an attached [Fiber] or a `scan` state
-    /// slot) are materialized independently at attachment time ([Flow#pipe(Pipe)]).
-    /// Composing the same flow more than once is safe — each attachment gets its
-    /// own framework-owned state slots. User-provided mutable Scan state is
-    /// independent only when the Supplier returns a fresh object per materialization.
+    /// Returns the specialized channel pipe for the given substrate's name.
     ///
-    /// @param next the flow that runs after this one
-    /// @param <P>  the output type produced by `next`
-    /// @return A flow equivalent to `this` followed by `next`
-    /// @throws NullPointerException if `next` is `null`
-    /// @throws Fault                if `next` is not a runtime-provided implementation
-    /// @see Flow#pipe(Pipe)
-    /// @see Fiber#fiber(Fiber)
-    /// @since 2.3
+    /// @param substrate the substrate whose subject name identifies the channel
+    /// @return The `int` pipe for this channel
+    /// @throws NullPointerException if substrate is `null`
+    /// @throws Fault                if the substrate parameter is not a runtime-provided implementation
 
+    @Override
     @NotNull
-    < P > Flow < I, P > flow (
-      @NotNull Flow < ? super O, ? extends P > next
-    );
+    default IntPipe get (
+      @NotNull final Substrate < ? > substrate
+    ) {
 
+      requireNonNull ( substrate );
 
-    /// Returns a flow that appends a flow segment produced per-attachment by
-    /// `factory`. The factory is invoked once per [#pipe(Pipe)] attachment
-    /// with the materialization's subject, producing the flow segment to
-    /// append for that attachment.
-    ///
-    /// This is the canonical mechanism for per-subject configuration of any
-    /// downstream Flow stage — including stateful operators like
-    /// [#scan(Supplier, BiFunction, Function)]. Per-subject thresholds, baselines,
-    /// seed states, and configuration lookups all flow through this single factory,
-    /// rather than being added as narrow per-operator subject-aware overloads.
-    ///
-    /// ```
-    /// emit(I) → this (I → O) → factory.apply(subject) → P → downstream
-    /// ```
-    ///
-    /// ## Subject Scope
-    ///
-    /// The subject passed to the factory is the materialized pipe's subject,
-    /// whose [Subject#name] is the downstream pipe's name (the named consumer
-    /// where emissions terminate) and whose [Subject#enclosure] is the
-    /// downstream pipe's subject. Same scoping rules as [#fiber(Function)].
-    ///
-    /// ## Materialization
-    ///
-    /// The factory is called exactly once per [#pipe(Pipe)] attachment with
-    /// the materialized subject. The framework materializes whatever Flow the
-    /// factory returns without copying or otherwise enforcing freshness. Returning
-    /// a reusable immutable Flow recipe is safe; using captured mutable state as
-    /// shared per-emission state across factory invocations is forbidden because
-    /// that state would be aliased across materializations. For Scan stages whose
-    /// `S` is mutable, the Scan Supplier is responsible for returning a fresh
-    /// state object per materialization.
-    ///
-    /// ## Exception Handling
-    ///
-    /// The factory is invoked at attachment time (inside [#pipe(Pipe)]), not
-    /// during emission processing. A factory that throws, returns `null`, or
-    /// returns a flow from another provider propagates the failure from the
-    /// `pipe(...)` call, the same way any other invalid argument would. Once
-    /// attached, the materialized flow is subject to the standard External
-    /// Callback Isolation rules for emission-time exceptions.
+      return get (
+        substrate
+          .subject ()
+          .name ()
+      );
+
+    }
+
+
+    /// Returns the specialized channel pipe for the given subject's name.
     ///
-    /// @param factory a function returning the flow segment for a given subject
-    /// @param <P>     the output type produced by the per-subject segment
-    /// @return A flow whose pipeline is this flow followed by the per-subject segment
-    /// @throws NullPointerException if the specified factory is `null`
-    /// @throws Fault                if the factory returns a flow that is not a runtime-provided implementation when the returned flow is later attached via [#pipe(Pipe)]
-    /// @see #flow(Flow)
-    /// @see #fiber(Function)
-    /// @see Subject
-    /// @since 2.6
+    /// @param subject the subject whose name identifies the channel
+    /// @return The `int` pipe for this channel
+    /// @throws NullPointerException if subject is `null`
+    /// @throws Fault                if the subject parameter is not a runtime-provided implementation
 
+    @Override
     @NotNull
-    < P > Flow < I, P > flow (
-      @NotNull Function < ? super Subject < ? >, ? extends Flow < ? super O, ? extends P > > factory
-    );
+    default IntPipe get (
+      @NotNull final Subject < ? > subject
+    ) {
 
+      requireNonNull ( subject );
 
-    /// Returns a flow that appends a type transformation to the pipeline.
-    ///
-    /// The mapper converts outgoing values from type `O` to type `P`, at the output
-    /// side of this flow. The returned `Flow<I, P>` still accepts `I`-typed emissions
-    /// at the input side; each emission flows through the existing pipeline to produce
-    /// `O`, which is then mapped to `P` for the downstream receptor.
-    ///
-    /// ## Data Flow
-    ///
-    /// ```
-    /// emit(I) → ... → O → fn(O) → P → downstream
-    /// ```
-    ///
-    /// ## Null Filtering
-    ///
-    /// If the function returns `null`, the emission is **filtered out** (dropped)
-    /// rather than forwarded to the downstream receptor. This allows the function
-    /// to serve as a combined transform-and-filter operation.
+      return get (
+        subject.name ()
+      );
+
+    }
+
+  }
+
+
+  /// A pipe that accepts `int` emissions without boxing.
+  ///
+  /// The `int` counterpart of [LongPipe]: [#emit(int)] carries the value into
+  /// the circuit without allocating an `Integer`, and the boxed [#emit(Integer)]
+  /// delegates to it. All [Pipe] guarantees apply unchanged.
+  ///
+  /// @see LongPipe
+  /// @see IntReceptor
+  /// @since 3.0
+
+  @Tenure ( Tenure.ANCHORED )
+  @Provided
+  interface IntPipe
+    extends Pipe < Integer > {
+
+    /// Emits an `int` value without boxing.
     ///
-    /// ## Same-Type Transformation
+    /// Semantics are those of [Pipe#emit(Object)]; only the representation
+    /// differs.
     ///
-    /// For same-type transforms (`O == P`), `map` also serves as a value replacement
-    /// operator. Null returns filter the emission:
+    /// @param emission the value to be emitted
+
+    @Queued
+    void emit (
+      int emission
+    );
+
+
+    /// Emits a boxed value by unwrapping it and delegating to [#emit(int)].
     ///
-    /// ```java
-    /// flow.map(v -> v * 2)              // double each value
-    /// flow.map(v -> v > 0 ? v : null)   // transform + filter
-    /// ```
+    /// @param emission the value to be emitted
+    /// @throws NullPointerException if the emission is `null`
+
+    @Override
+    @Queued
+    default void emit (
+      @NotNull final Integer emission
+    ) {
+
+      emit (
+        emission.intValue ()
+      );
+
+    }
+
+
+    /// Emits a contiguous range of an `int` array as a single ingress unit.
     ///
-    /// ## Combining with Fiber
+    /// The primitive form of [Pipe#emit(Object\[\],int,int)], with the same
+    /// contiguity, ordering, and synchronous bounds validation.
     ///
-    /// Per-emission operators (diff, guard, peek, limit, ...) live on [Fiber]
-    /// and are attached at the output side via [#fiber(Fiber)]:
+    /// @param emissions the array holding the values to be emitted
+    /// @param offset    the index of the first value to emit
+    /// @param length    the number of values to emit
+    /// @throws NullPointerException      if `emissions` is `null`
+    /// @throws IndexOutOfBoundsException if the range is out of bounds for the array
+
+    @Queued
+    void emit (
+      @NotNull int[] emissions,
+      int offset,
+      int length
+    );
+
+
+    /// Emits every value of an iterable as a single ingress unit.
     ///
-    /// ```java
-    /// // Map I → O, and dedupe on the O side (post-map) via an attached Fiber:
-    /// cortex.flow(I.class)
-    ///   .map(i -> toO(i))
-    ///   .fiber(cortex.fiber(O.class).diff())
-    /// ```
+    /// The `int` counterpart of [Pipe#emitAll(Iterable)]: unboxes the values in
+    /// iteration order into an `int[]` and submits them through
+    /// [#emit(int\[\],int,int)], with the same contiguity and all-or-nothing
+    /// validation. If any value is `null`, nothing is emitted. An empty iterable
+    /// is a no-op.
     ///
-    /// @param fn  the function to transform emissions from O to P; returns `null` to filter
-    /// @param <P> the output type produced by the transformation
-    /// @return A flow with output type `P` that can be chained further
-    /// @throws NullPointerException if fn is `null`
-    /// @see Flow#pipe(Pipe)
-    /// @since 2.0
+    /// @param emissions the values to be emitted, in order
+    /// @throws NullPointerException if `emissions` or any of its values is `null`
+    /// @since 3.0
+
+    @Override
+    @Queued
+    default void emitAll (
+      @NotNull final Iterable < ? extends Integer > emissions
+    ) {
+
+      requireNonNull ( emissions );
+
+      final var batch =
+        StreamSupport
+          .stream ( emissions.spliterator (), false )
+          .mapToInt ( Integer::intValue )
+          .toArray ();
+
+      emit (
+        batch,
+        0,
+        batch.length
+      );
+
+    }
+
+  }
+
+
+  /// A receptor that receives `int` emissions without boxing.
+  ///
+  /// The `int` counterpart of [LongReceptor]: [#receive(int)] is the single
+  /// abstract method, and the boxed [#receive(Integer)] delegates to it.
+  ///
+  /// @see LongReceptor
+  /// @see IntPipe
+  /// @since 3.0
 
-    @NotNull
-    < P > Flow < I, P > map (
-      @NotNull Function < ? super O, ? extends P > fn
+  @FunctionalInterface
+  interface IntReceptor
+    extends Receptor < Integer > {
+
+    /// Receives an `int` emission.
+    ///
+    /// @param emission the value received
+
+    void receive (
+      int emission
     );
 
 
-    /// Returns a pipe that applies this flow's pipeline ahead of the supplied pipe
-    /// on that pipe's circuit.
-    ///
-    /// This is the cross-type attachment point for Flow. The flow's output type `O`
-    /// must match the supplied pipe's emission type; the returned pipe carries the
-    /// flow's input type `I`.
-    ///
-    /// ## Usage Patterns
-    ///
-    /// ```java
-    /// // Type transformation:
-    /// cortex.flow ( Integer.class ).map ( i -> "value:" + i ).pipe ( sink )
-    ///
-    /// // Flow with an attached per-emission Fiber recipe:
-    /// cortex.flow ( Integer.class )
-    ///   .map ( i -> "value:" + i )
-    ///   .fiber ( cortex.fiber ( String.class ).guard ( v -> !v.isEmpty () ).diff () )
-    ///   .pipe ( sink )
-    /// ```
-    ///
-    /// ## Data Flow
+    /// Receives a boxed emission by unwrapping it and delegating to [#receive(int)].
     ///
-    /// `map` in a Flow **appends** a downstream transformation. Reading from the
-    /// emit side toward the downstream pipe's receptor:
-    ///
-    /// ```
-    /// Caller thread:       Circuit thread:
-    ///   result.emit(I) ──→ [flow stages, I → ... → O] → pipe's receptor
-    /// ```
+    /// @param emission the value received
+
+    @Override
+    default void receive (
+      @NotNull final Integer emission
+    ) {
+
+      receive (
+        emission.intValue ()
+      );
+
+    }
+
+  }
+
+
+  /// A read-only view of an ingress journal written by a journaled circuit.
+  ///
+  /// A journal is opened with [Cortex#journal(Path, Codec)] over the directory
+  /// that a circuit configured through [Options#journal(Path, Codec)] writes
+  /// to. It gives the sequence and time bounds needed to pick a replay range,
+  /// and is the input of [Circuit#replay(Journal, Function, long, long)].
+  ///
+  /// Each record carries the name of its source as well as its channel name
+  /// (see [Options#journal(Path, Codec)]), so records of sources that share
+  /// channel names stay distinguishable; [#source(long)] reads it.
+  ///
+  /// The view covers the records that were complete when it was opened, or
+  /// when a method was last called if the journal is still being written.
+  /// Record timestamps are processing times of the writing circuit and are
+  /// non-decreasing in sequence order; they are meaningful relative to each
+  /// other, not as absolute instants.
+  ///
+  /// Closing the journal unmaps its segments. It does not affect a circuit
+  /// that is still writing to the directory.
+  ///
+  /// @param <E> the emission type decoded by the journal's codec
+  /// @see Cortex#journal(Path, Codec)
+  /// @see Circuit#replay(Journal, Function, long, long)
+  /// @since 3.0
+
+  @Tenure ( Tenure.EPHEMERAL )
+  @Provided
+  interface Journal < E >
+    extends Resource < Journal < E > > {
+
+    /// Returns the sequence number of the first record.
     ///
-    /// When the flow contains no type-changing stages (`map`, `scan`, `window`, or composed
-    /// Flow), `I` and `O` are the same type and the attached Fiber (if any) runs
-    /// on that shared type.
+    /// @return The first sequence number, or `0` if the journal is empty
+
+    long first ();
+
+
+    /// Returns the sequence number of the last complete record.
     ///
-    /// ## Threading Guarantee
+    /// @return The last sequence number, or `first() - 1` if the journal is empty
+
+    long last ();
+
+
+    /// Returns the sequence number of the first record at or after a time.
     ///
-    /// All stages in the Flow execute on the circuit's single worker thread.
-    /// Stateful stages (inside an attached Fiber, a Flow `scan` state slot, or
-    /// a Flow `window` rolling window) are safe without synchronization.
+    /// Used to turn a time bound into a sequence bound for replay.
     ///
-    /// @param pipe the pipe to prepend this flow to
-    /// @return A pipe that applies this flow before forwarding to `pipe`
-    /// @throws NullPointerException if pipe is `null`
-    /// @throws Fault                if the pipe is not a runtime-provided implementation
-    /// @see Fiber#pipe(Pipe)
-    /// @see Circuit#pipe(Pipe)
-    /// @since 2.2
+    /// @param time a processing time in the journal's timeline, in nanoseconds
+    /// @return The first sequence whose timestamp is at or after `time`, or
+    ///         `last() + 1` if there is none
 
-    @New
-    @NotNull
-    Pipe < I > pipe (
-      @NotNull Pipe < O > pipe
+    long sequence (
+      long time
     );
 
 
-    /// Returns a pipe that applies this flow's pipeline ahead of the supplied
-    /// cell's update pipe.
-    ///
-    /// Output emissions from the flow are forwarded to the cell's update pipe
-    /// and become its published value. Null outputs from the flow do not update
-    /// the cell.
+    /// Returns the name of the source that owned the pipe a record was emitted into.
     ///
-    /// @param cell the cell whose published value is updated by flow output emissions
-    /// @return A pipe that applies this flow before publishing to `cell`
-    /// @throws NullPointerException if cell is `null`
-    /// @throws Fault                if the cell is not a runtime-provided implementation
-    /// @see Cell#pipe()
-    /// @see #pipe(Pipe)
-    /// @since 2.7
+    /// @param sequence the sequence number of the record
+    /// @return The recorded source name
+    /// @throws IndexOutOfBoundsException if sequence is outside `[first(), last()]`
 
-    @New
     @NotNull
-    Pipe < I > pipe (
-      @NotNull Cell < O > cell
+    Name source (
+      long sequence
     );
 
 
-    /// Returns a flow that emits a projection of each consecutive `(prev, curr)`
-    /// relation over the output stream. The type-changing sibling of
-    /// [Fiber#relate(Object, BinaryOperator)]: identical state semantics, with
-    /// the relating function generalized from `(O, O) → O` to `(O, O) → P`.
-    ///
-    /// `op` may return `null` to filter the emission, so a gating use (emit only
-    /// when consecutive values differ, are related in some way, or cross a
-    /// boundary) is expressed by returning `null` on the cases that should not
-    /// fire. Naming a transition between two values — "X became Y" → a single
-    /// derived value — is one such use; the `(prev, curr)` pair is visible to
-    /// `op` but never escapes, so the projected `P` is all that reaches
-    /// downstream.
-    ///
-    /// ```
-    /// emit(I) → ... → O → op(prev, curr) → P → downstream
-    /// ```
-    ///
-    /// ## Lifecycle
-    ///
-    /// `prev` is seeded with `initial` at attach time (per [#pipe(Pipe)]
-    /// materialization) and advances to the current value on **every**
-    /// emission — including emissions for which `op` returns `null`. Filtering
-    /// does not freeze `prev`; the next pair is always
-    /// `(most-recent-value, next-value)`.
-    ///
-    /// ## Per Emission
-    ///
-    /// On each emission of `O`:
-    /// 1. `p` captures the current `prev`
-    /// 2. `prev` advances to the incoming value
-    /// 3. `op.apply(p, curr)` produces the downstream value of type `P`
-    /// 4. If `op` returns `null`, the emission is filtered (downstream sees nothing)
+    /// Returns the timestamp of a record.
     ///
-    /// ## Null Handling
-    ///
-    /// `initial` may be `null`; the first invocation then receives `null` as
-    /// `prev`. `op` may return `null` to filter. Callers using a nullable seed
-    /// must ensure `op` handles a `null` `prev` without throwing.
-    ///
-    /// ## Exception Handling
+    /// @param sequence the sequence number of the record
+    /// @return The processing time recorded for that record, in nanoseconds
+    /// @throws IndexOutOfBoundsException if sequence is outside `[first(), last()]`
+
+    long time (
+      long sequence
+    );
+
+  }
+
+
+  /// A dedicated handoff from one circuit's worker to another circuit.
+  ///
+  /// A link is created with [Circuit#link(Circuit)] on the source circuit. While
+  /// it is open, emissions that the source's worker makes into pipes owned by
+  /// the target circuit — from receptors, subscribers, fibers, flows, or
+  /// forwarding pipes — bypass the target's multi-producer ingress. They are
+  /// appended to a single-producer/single-consumer ring owned by the link,
+  /// which the source's worker flushes to the target at the end of each of its
+  /// drain cycles. Each flush is admitted to the target as one contiguous
+  /// ingress unit, as for [Pipe#emit(Object\[\],int,int)], with at most one
+  /// wake-up of the target's worker.
+  ///
+  /// ## Ordering
+  ///
+  /// A link changes when cross-circuit emissions are admitted, not how they are
+  /// ordered. The target admits the source's emissions in the order the source
+  /// made them, and each is still dispatched as its own emission. Other
+  /// producers' emissions are admitted before or after a flush, never inside
+  /// it — the same guarantees the target gives any single producer. Emissions
+  /// to the target from threads other than the source's worker are unaffected.
+  ///
+  /// The source flushes before its worker idles and whenever the ring fills, and
+  /// a barrier on the source ([Circuit#await()], [Circuit#awaitAsync()])
+  /// completes only after emissions made before it have been admitted to the
+  /// target. `source.await ()` followed by `target.await ()` therefore observes
+  /// everything emitted across the link, as it does without one.
+  ///
+  /// ## Lifecycle
+  ///
+  /// Closing a link flushes its ring and restores ordinary cross-circuit
+  /// emission. A link is closed implicitly when either circuit closes; closing
+  /// the source flushes first, and emissions into a closed target are dropped
+  /// as for any closed circuit. Providers may create equivalent handoffs
+  /// implicitly for traffic they observe; an explicit link guarantees one.
+  ///
+  /// @see Circuit#link(Circuit)
+  /// @since 3.0
+
+  @Tenure ( Tenure.ANCHORED )
+  @Provided
+  interface Link
+    extends Resource < Link > {
+
+    /// Returns the circuit whose worker emits across this link.
     ///
-    /// If `op` throws, the current emission is dropped. `prev` has already
-    /// advanced to the incoming value; the next emission proceeds from the
-    /// advanced `prev`.
+    /// @return the source circuit
+
+    @NotNull
+    Circuit source ();
+
+
+    /// Returns the circuit that receives emissions across this link.
     ///
-    /// ## Example: Naming a Status Transition
+    /// @return the target circuit
+
+    @NotNull
+    Circuit target ();
+
+  }
+
+
+  /// A conduit whose channels carry `long` emissions without boxing.
+  ///
+  /// `LongConduit` is the primitive specialization of `Conduit<Long>`. Every channel
+  /// pipe it returns is a [LongPipe], so producers that call [LongPipe#emit(long)]
+  /// never allocate a wrapper on the way into the circuit. On the dispatch
+  /// side the channel forwards the primitive value to registrants that are
+  /// themselves specialized:
+  ///
+  /// - a registered [LongPipe] receives [LongPipe#emit(long)]
+  /// - a registered [LongReceptor] receives [LongReceptor#receive(long)]
+  /// - any other registered [Pipe] or [Receptor] receives a boxed `Long`,
+  ///   created at most once per emission and shared by all such registrants
+  ///
+  /// A channel whose registrants are all specialized therefore carries the
+  /// value end-to-end — caller, ingress queue, dispatch — as a `long`.
+  ///
+  /// Apart from the element representation, a `LongConduit` is an ordinary
+  /// [Conduit]: naming, pooling, pipe identity, subscription, lazy rebuild,
+  /// routing, and lifecycle are unchanged, and it can be used anywhere a
+  /// `Conduit<Long>` is expected. Operators attached through [Conduit#pool(Fiber)]
+  /// or [Conduit#pool(Flow)] work on the boxed representation.
+  ///
+  /// ```java
+  /// var latency = circuit.longConduit ( cortex.name ( "latency" ) );
+  ///
+  /// latency.subscribe (
+  ///   circuit.subscriber (
+  ///     cortex.name ( "histogram" ),
+  ///     ( subject, registrar ) ->
+  ///       registrar.register ( (LongReceptor) histogram::record )
+  ///   )
+  /// );
+  ///
+  /// latency.get ( cortex.name ( "db.query" ) ).emit ( elapsed );
+  /// ```
+  ///
+  /// @see LongPipe
+  /// @see LongReceptor
+  /// @see Circuit#longConduit(Name, Routing)
+  /// @since 3.0
+
+  @Tenure ( Tenure.EPHEMERAL )
+  @Provided
+  interface LongConduit
+    extends Conduit < Long > {
+
+    /// Returns the specialized channel pipe for the given name.
     ///
-    /// ```java
-    /// cortex.flow ( Status.class )
-    ///   .relate (
-    ///     Status.NOMINAL,
-    ///     ( prev, curr ) ->
-    ///       prev == curr            ? null
-    ///       : curr == Status.SATURATED ? Transition.ENTERED_SATURATED
-    ///       : prev == Status.SATURATED ? Transition.LEFT_SATURATED
-    ///       : null
-    ///   );
-    /// ```
+    /// Identity and caching follow [Pool#get(Name)]: the same name always
+    /// yields the same pipe instance.
     ///
-    /// @param initial the seed value for `prev` before the first emission
-    /// @param op      the projection from `(prev, curr)` to output;
-    ///                may return `null` to filter
-    /// @param <P>     the output type
-    /// @return A stateful flow projecting the consecutive-value relation
-    /// @throws NullPointerException if `op` is `null`
-    /// @see Fiber#relate(Object, BinaryOperator)
-    /// @see #scan(Supplier, BiFunction, BiFunction)
-    /// @since 2.10
+    /// @param name the name identifying the channel
+    /// @return The `long` pipe for this channel
+    /// @throws NullPointerException if name is `null`
+    /// @throws Fault                if the name parameter is not a runtime-provided implementation
 
+    @Override
     @NotNull
-    < P > Flow < I, P > relate (
-      O initial,
-      @NotNull BiFunction < ? super O, ? super O, ? extends P > op
+    LongPipe get (
+      @NotNull Name name
     );
 
 
-    /// Returns a flow that turns each admission into a [Run] envelope carrying the
-    /// emission and its consecutive-run length. The length is `1` on the first
-    /// admission and after every change, and increments while the value repeats.
-    /// Consecutive repetition is decided by value equality ([Objects#equals]);
-    /// for runs over a derived key, [#map(Function)] to the key first.
-    ///
-    /// The emitted [Run] is a fresh immutable envelope — safe to retain,
-    /// compare, and forward.
+    /// Returns the specialized channel pipe for the given substrate's name.
     ///
-    /// ```
-    /// cortex.flow ( Sign.class )
-    ///   .run ()
-    ///   .map ( r -> r.emission () + " x" + r.length () );
-    /// ```
+    /// @param substrate the substrate whose subject name identifies the channel
+    /// @return The `long` pipe for this channel
+    /// @throws NullPointerException if substrate is `null`
+    /// @throws Fault                if the substrate parameter is not a runtime-provided implementation
+
+    @Override
+    @NotNull
+    default LongPipe get (
+      @NotNull final Substrate < ? > substrate
+    ) {
+
+      requireNonNull ( substrate );
+
+      return get (
+        substrate
+          .subject ()
+          .name ()
+      );
+
+    }
+
+
+    /// Returns the specialized channel pipe for the given subject's name.
     ///
-    /// @return A stateful flow turning each `O` into a [Run] of `O`
-    /// @see #change()
-    /// @see Run
-    /// @since 3.0
+    /// @param subject the subject whose name identifies the channel
+    /// @return The `long` pipe for this channel
+    /// @throws NullPointerException if subject is `null`
+    /// @throws Fault                if the subject parameter is not a runtime-provided implementation
+
+    @Override
+    @NotNull
+    default LongPipe get (
+      @NotNull final Subject < ? > subject
+    ) {
+
+      requireNonNull ( subject );
+
+      return get (
+        subject.name ()
+      );
 
-    @NotNull
-    Flow < I, Run < O > > run ();
+    }
 
 
-    /// Returns a flow that folds each emission into a running state and emits
-    /// a projection of `(state, current input)`. Input-aware variant of
-    /// [#scan(Supplier, BiFunction, Function)] — use when the projection needs
-    /// the current sample alongside the running state, as in z-scores,
-    /// residuals, and anomaly scoring against a running baseline.
-    ///
-    /// All other semantics — lifecycle, null handling, exception handling —
-    /// are identical to the state-only variant; see
-    /// [#scan(Supplier, BiFunction, Function)] for the full contract.
-    ///
-    /// ## Example: Z-Score Against Running Mean and Variance
+    /// Returns a derived pool that applies a `long` fiber to each channel's pipe.
     ///
-    /// ```java
-    /// record Stats ( long count, double mean, double m2 ) {}
-    /// cortex.flow ( Double.class )
-    ///   .scan (
-    ///     () -> new Stats ( 0L, 0.0, 0.0 ),
-    ///     ( s, v ) -> {
-    ///       final long   n     = s.count () + 1L;
-    ///       final double delta = v - s.mean ();
-    ///       final double mean  = s.mean () + delta / n;
-    ///       final double m2    = s.m2 () + delta * ( v - mean );
-    ///       return new Stats ( n, mean, m2 );
-    ///     },
-    ///     ( s, v ) -> {
-    ///       if ( s.count () < 2L ) return null;
-    ///       final double variance = s.m2 () / ( s.count () - 1L );
-    ///       return ( v - s.mean () ) / Math.sqrt ( variance );
-    ///     }
-    ///   );
-    /// ```
+    /// The specialized form of [Conduit#pool(Fiber)]: each channel's [LongPipe]
+    /// is wrapped with the fiber, and values flow from the returned pipes
+    /// through the operators into the channel without boxing.
     ///
-    /// @param initial the per-attachment factory for the initial state
-    /// @param step    the binary operation `(state, input) -> next state`;
-    ///                may return `null`
-    /// @param emit    the projection from `(state, input)` to output;
-    ///                may return `null` to filter
-    /// @param <S>     the state type
-    /// @param <P>     the output type
-    /// @return A stateful flow with running fold and input-aware projection
-    /// @throws NullPointerException if any argument is `null`
-    /// @see #scan(Supplier, BiFunction, Function)
-    /// @see #flow(Function)
-    /// @since 2.6
+    /// @param fiber the fiber that processes emissions before the channel
+    /// @return A derived pool whose pipes apply the fiber before this conduit's pipes
+    /// @throws NullPointerException if fiber is `null`
+    /// @throws Fault                if the fiber is not a runtime-provided implementation
+    /// @see LongFiber#pipe(Pipe)
+    /// @since 3.0
 
+    @New
     @NotNull
-    < S, P > Flow < I, P > scan (
-      @NotNull Supplier < ? extends S > initial,
-      @NotNull BiFunction < ? super S, ? super O, ? extends S > step,
-      @NotNull BiFunction < ? super S, ? super O, ? extends P > emit
+    Pool < LongPipe > pool (
+      @NotNull LongFiber fiber
     );
 
+  }
 
-    /// Returns a flow that folds each emission into a running state and emits
-    /// a projection of that state. Stateful per-materialization; state type
-    /// `S` is independent of input `O` and output `P`.
-    ///
-    /// `scan` is the type-changing sibling of [Fiber#reduce(Object, BinaryOperator)].
-    /// Where `reduce` collapses state and emission type to a single `E`, `scan`
-    /// separates them — enabling running summary statistics whose state shape
-    /// (e.g., `(sum, count)`, `(count, mean, M2)`) differs from both input and
-    /// output (e.g., `Integer` in, `Double` out).
-    ///
-    /// ```
-    /// emit(I) → ... → O → step(state, O) → state' → emit(state') → P → downstream
-    /// ```
-    ///
-    /// ## Lifecycle
-    ///
-    /// `initial` is invoked exactly once per [#pipe(Pipe)] attachment, at attach
-    /// time (not lazily on first emission). The Supplier is the per-attachment
-    /// hook for state allocation: the framework stores whatever the Supplier
-    /// returns as the initial slot value, without copying or otherwise
-    /// enforcing freshness. For mutable `S`, callers MUST return a fresh
-    /// instance from each invocation — a Supplier that returns a shared
-    /// mutable object will alias state across attachments. For immutable /
-    /// value-typed `S` (`Long`, records, etc.), returning the same reference
-    /// is safe.
-    ///
-    /// For per-subject seed configuration (per-subject baselines, per-subject
-    /// `α` values, per-subject thresholds), compose via [#flow(Function)] —
-    /// the canonical subject-aware path. There is intentionally no
-    /// subject-aware `scan` overload; one general factory carries all
-    /// per-attachment subject variation.
+
+  /// A pipe that accepts `long` emissions without boxing.
+  ///
+  /// `LongPipe` is the primitive specialization of `Pipe<Long>`. The specialized
+  /// [#emit(long)] carries the value into the owning circuit's ingress queue
+  /// without allocating a `Long`; the boxed [#emit(Long)] inherited from [Pipe]
+  /// unwraps and delegates to it, so the two forms are observationally
+  /// identical. All [Pipe] guarantees — queued execution, ordering, exception
+  /// isolation, circuit-thread confinement — apply unchanged.
+  ///
+  /// Specialized pipes are obtained from [Circuit#longPipe(LongReceptor)] and from the
+  /// channels of a [LongConduit]. Because a `LongPipe` is a `Pipe<Long>`, it can be passed
+  /// anywhere a `Pipe<? super Long>` is accepted; providers recognize it and
+  /// deliver primitively where they can (for example [Circuit#ticker(Duration, Pipe)]).
+  ///
+  /// @see LongReceptor
+  /// @see LongConduit
+  /// @since 3.0
+
+  @Tenure ( Tenure.ANCHORED )
+  @Provided
+  interface LongPipe
+    extends Pipe < Long > {
+
+    /// Emits a `long` value without boxing.
     ///
-    /// ## Per Emission
+    /// Semantics are those of [Pipe#emit(Object)]; only the representation
+    /// differs.
     ///
-    /// On each emission of `O`:
-    /// 1. `step.apply(currentState, emission)` produces the next state
-    /// 2. The stored state reference is replaced with the result
-    /// 3. `emit.apply(newState)` produces the downstream value of type `P`
-    /// 4. If `emit` returns `null`, the emission is filtered (downstream sees nothing)
+    /// @param emission the value to be emitted
+
+    @Queued
+    void emit (
+      long emission
+    );
+
+
+    /// Emits a boxed value by unwrapping it and delegating to [#emit(long)].
     ///
-    /// ## Null Handling
+    /// @param emission the value to be emitted
+    /// @throws NullPointerException if the emission is `null`
+
+    @Override
+    @Queued
+    default void emit (
+      @NotNull final Long emission
+    ) {
+
+      emit (
+        emission.longValue ()
+      );
+
+    }
+
+
+    /// Emits a contiguous range of a `long` array as a single ingress unit.
     ///
-    /// `initial` may return `null`; subsequent `step` invocations receive
-    /// `null` as `prev` until updated. `step` may return `null`; the next
-    /// state becomes `null` and `emit` receives `null`. `emit` may return
-    /// `null` to filter the emission. Callers using nullable state must
-    /// ensure `step` and `emit` handle `null` without throwing.
+    /// The primitive form of [Pipe#emit(Object\[\],int,int)], with the same
+    /// contiguity, ordering, and synchronous bounds validation.
     ///
-    /// ## Exception Handling
+    /// @param emissions the array holding the values to be emitted
+    /// @param offset    the index of the first value to emit
+    /// @param length    the number of values to emit
+    /// @throws NullPointerException      if `emissions` is `null`
+    /// @throws IndexOutOfBoundsException if the range is out of bounds for the array
+
+    @Queued
+    void emit (
+      @NotNull long[] emissions,
+      int offset,
+      int length
+    );
+
+
+    /// Emits every value of an iterable as a single ingress unit.
     ///
-    /// If `step` throws, the scan stage does not replace its stored state
-    /// reference; side effects or in-place mutations performed by `step`
-    /// before throwing are not undone. The current emission is dropped.
+    /// The `long` counterpart of [Pipe#emitAll(Iterable)]: unboxes the values in
+    /// iteration order into a `long[]` and submits them through
+    /// [#emit(long\[\],int,int)], with the same contiguity and all-or-nothing
+    /// validation. If any value is `null`, nothing is emitted. An empty iterable
+    /// is a no-op.
     ///
-    /// If `emit` throws, the current emission is dropped. State has already
-    /// been advanced by `step`; the next emission proceeds from the advanced
-    /// state.
+    /// @param emissions the values to be emitted, in order
+    /// @throws NullPointerException if `emissions` or any of its values is `null`
+    /// @since 3.0
+
+    @Override
+    @Queued
+    default void emitAll (
+      @NotNull final Iterable < ? extends Long > emissions
+    ) {
+
+      requireNonNull ( emissions );
+
+      final var batch =
+        StreamSupport
+          .stream ( emissions.spliterator (), false )
+          .mapToLong ( Long::longValue )
+          .toArray ();
+
+      emit (
+        batch,
+        0,
+        batch.length
+      );
+
+    }
+
+  }
+
+
+  /// A receptor that receives `long` emissions without boxing.
+  ///
+  /// `LongReceptor` is the primitive specialization of `Receptor<Long>`. Its single
+  /// abstract method is [#receive(long)], so lambdas and method references
+  /// targeting this type take a primitive parameter. The boxed
+  /// [#receive(Long)] inherited from [Receptor] unwraps and delegates.
+  ///
+  /// When a `LongReceptor` is passed to [Circuit#longPipe(LongReceptor)] or registered on a
+  /// [LongConduit] channel, the provider invokes [#receive(long)] directly and no
+  /// `Long` is allocated for it. Registered elsewhere it behaves as any other
+  /// `Receptor<Long>`. Threading and null-handling follow [Receptor].
+  ///
+  /// @see LongPipe
+  /// @see LongConduit
+  /// @since 3.0
+
+  @FunctionalInterface
+  interface LongReceptor
+    extends Receptor < Long > {
+
+    /// Receives a `long` emission.
     ///
-    /// ## Example: Running Mean
+    /// @param emission the value received
+
+    void receive (
+      long emission
+    );
+
+
+    /// Receives a boxed emission by unwrapping it and delegating to [#receive(long)].
     ///
-    /// ```java
-    /// record Mean ( long sum, long count ) {}
-    /// cortex.flow ( Integer.class )
-    ///   .scan (
-    ///     () -> new Mean ( 0L, 0L ),
-    ///     ( m, v ) -> new Mean ( m.sum () + v, m.count () + 1L ),
-    ///     m -> m.count () == 0L ? null : (double) m.sum () / m.count ()
-    ///   );
-    /// ```
+    /// @param emission the value received
+
+    @Override
+    default void receive (
+      @NotNull final Long emission
+    ) {
+
+      receive (
+        emission.longValue ()
+      );
+
+    }
+
+  }
+
+
+  /// A same-type processing fiber specialized for `long` emissions.
+  ///
+  /// `LongFiber` is the primitive counterpart of `Fiber<Long>` for numeric signal
+  /// pipelines. Thresholds and seeds are plain `long` values, operator
+  /// functions are the `java.util.function` primitive specializations
+  /// ([LongBinaryOperator], [LongPredicate], [LongUnaryOperator]), and the per-materialization
+  /// state of stateful operators (`diff` last value, `reduce` accumulator,
+  /// `rolling` ring, ...) is held in primitive fields. A materialized chain therefore compares, folds, and
+  /// forwards values without allocating per emission.
+  ///
+  /// Every operator has the semantics of the `Fiber` operator of the same name
+  /// under natural `long` ordering, and everything the [Fiber] contract says
+  /// about execution context, materialization, immutability, composition order,
+  /// and exception handling applies unchanged. Because primitives have no
+  /// `null`, the `null`-filtering rules of the boxed operators do not apply:
+  /// use [#guard(LongPredicate)] to filter.
+  ///
+  /// A `LongFiber` is attached through [#pipe(Pipe)], which returns a [LongPipe]; a
+  /// [LongPipe] downstream receives surviving values through its primitive `emit`.
+  /// [LongConduit#pool(LongFiber)] applies it to every channel of a conduit.
+  ///
+  /// ```java
+  /// Pool<LongPipe> readings =
+  ///   conduit.pool (
+  ///     cortex.longFiber ()
+  ///       .deadband ( -5, 5 )
+  ///       .clamp ( -100, 100 )
+  ///   );
+  /// ```
+  ///
+  /// @see Fiber
+  /// @see Cortex#longFiber()
+  /// @see LongPipe
+  /// @since 3.0
+
+  @Provided
+  interface LongFiber {
+
+    /// Returns a fiber that passes only values strictly above `lower`. Stateless.
     ///
-    /// @param initial the per-attachment factory for the initial state (invoked once at attach time)
-    /// @param step    the binary operation `(state, input) -> next state`;
-    ///                may return `null`
-    /// @param emit    the projection from state to output value;
-    ///                may return `null` to filter
-    /// @param <S>     the state type (independent of `O` and `P`)
-    /// @param <P>     the output type
-    /// @return A stateful flow with running fold and state projection
-    /// @throws NullPointerException if any argument is `null`
-    /// @see #scan(Supplier, BiFunction, BiFunction)
-    /// @see #flow(Function)
-    /// @see Fiber#reduce(Object, BinaryOperator)
-    /// @since 2.6
+    /// @param lower the exclusive lower bound
+    /// @return A fiber with the operator appended
+    /// @see Fiber#above(Object)
+    /// @since 3.0
 
     @NotNull
-    < S, P > Flow < I, P > scan (
-      @NotNull Supplier < ? extends S > initial,
-      @NotNull BiFunction < ? super S, ? super O, ? extends S > step,
-      @NotNull Function < ? super S, ? extends P > emit
+    LongFiber above (
+      long lower
     );
 
 
-    /// Returns a flow that folds each emission into a running state and emits
-    /// that state directly. Stateful per-materialization; state type `S` is
-    /// independent of input `O`, and the downstream output is exactly `S`.
-    ///
-    /// This is the state-as-output form of [#scan(Supplier, BiFunction, Function)].
-    /// It is equivalent to:
+    /// Returns a fiber that passes only values strictly below `upper`. Stateless.
     ///
-    /// ```java
-    /// scan(initial, step, Function.identity())
-    /// ```
-    ///
-    /// ## Publication Contract
-    ///
-    /// Because the scan state is emitted directly, `S` must be safe to publish
-    /// downstream as a value. Use this overload for immutable or effectively
-    /// immutable accumulator state: records, value objects, boxed values, and
-    /// other states that downstream consumers cannot mutate after publication.
-    ///
-    /// A `step` function may return the same `S` reference when that reference
-    /// is immutable and represents the correct next state. The API does not
-    /// require or check reference freshness.
-    ///
-    /// For mutable working state, use [#scan(Supplier, BiFunction, Function)]
-    /// and make the projection return an immutable snapshot or other safe
-    /// public value. Publishing a mutable accumulator directly can leak the
-    /// framework-owned state slot to downstream consumers.
-    ///
-    /// ## Cell Usage
-    ///
-    /// This overload is the concise way to publish an immutable running state to
-    /// a [Cell]:
-    ///
-    /// ```java
-    /// record Drawdown(double equity, double peak, double drawdown) {}
-    ///
-    /// Cell<Drawdown> cell = circuit.cell(new Drawdown(1.0, 1.0, 0.0));
+    /// @param upper the exclusive upper bound
+    /// @return A fiber with the operator appended
+    /// @see Fiber#below(Object)
+    /// @since 3.0
+
+    @NotNull
+    LongFiber below (
+      long upper
+    );
+
+
+    /// Returns a fiber that clamps values to `[lower, upper]`. Stateless.
     ///
-    /// Pipe<Double> returns =
-    ///   cortex.flow(Double.class)
-    ///         .scan(
-    ///           () -> new Drawdown(1.0, 1.0, 0.0),
-    ///           (s, r) -> {
-    ///             double equity = s.equity() * (1.0 + r);
-    ///             double peak = Math.max(s.peak(), equity);
-    ///             return new Drawdown(equity, peak, (equity / peak) - 1.0);
-    ///           })
-    ///         .pipe(cell);
-    /// ```
+    /// @param lower the inclusive lower bound
+    /// @param upper the inclusive upper bound
+    /// @return A fiber with the operator appended
+    /// @throws IllegalArgumentException if `lower > upper`
+    /// @see Fiber#clamp(Object, Object)
+    /// @since 3.0
+
+    @NotNull
+    LongFiber clamp (
+      long lower,
+      long upper
+    );
+
+
+    /// Returns a fiber that drops values within `[lower, upper]` and passes values outside it. Stateless.
     ///
-    /// Lifecycle, null handling, and exception handling are identical to
-    /// [#scan(Supplier, BiFunction, Function)].
+    /// @param lower the inclusive lower edge of the suppressed band
+    /// @param upper the inclusive upper edge of the suppressed band
+    /// @return A fiber with the operator appended
+    /// @throws IllegalArgumentException if `lower > upper`
+    /// @see Fiber#deadband(Object, Object)
+    /// @since 3.0
+
+    @NotNull
+    LongFiber deadband (
+      long lower,
+      long upper
+    );
+
+
+    /// Returns a fiber that drops consecutive duplicate values. The first emission always passes. Stateful.
     ///
-    /// @param initial the per-attachment factory for the initial state (invoked once at attach time)
-    /// @param step    the binary operation `(state, input) -> next state`;
-    ///                may return `null`
-    /// @param <S>     the immutable/effectively immutable state and output type
-    /// @return A stateful flow that emits its running state
-    /// @throws NullPointerException if `initial` or `step` is `null`
-    /// @see #scan(Supplier, BiFunction, Function)
-    /// @see #flow(Function)
-    /// @see Cell
-    /// @since 2.8
+    /// @return A fiber with the operator appended
+    /// @see Fiber#diff()
+    /// @since 3.0
 
     @NotNull
-    default < S > Flow < I, S > scan (
-      @NotNull final Supplier < ? extends S > initial,
-      @NotNull final BiFunction < ? super S, ? super O, ? extends S > step
-    ) {
+    LongFiber diff ();
 
-      requireNonNull ( initial );
-      requireNonNull ( step );
 
-      return
-        scan (
-          initial,
-          step,
-          Function.identity ()
-        );
+    /// Returns a fiber that emits every Nth value and drops the rest. Stateful.
+    ///
+    /// @param interval the sample interval (positive)
+    /// @return A fiber with the operator appended
+    /// @throws IllegalArgumentException if interval is not positive
+    /// @see Fiber#every(int)
+    /// @since 3.0
 
-    }
+    @NotNull
+    LongFiber every (
+      int interval
+    );
 
 
-    /// Returns a flow that emits a bounded rolling [Window] of the most recent
-    /// surviving output values.
+    /// Returns a fiber that runs another `long` fiber's operators after this fiber's.
     ///
-    /// `window` runs at the output side of this flow. Upstream stages first
-    /// transform and filter the incoming `I` emission into a surviving `O`;
-    /// the `O` value is then appended to this operator's per-materialization
-    /// ring, and a temporal window view is emitted downstream.
+    /// @param next the fiber whose operators run after this fiber's
+    /// @return A fiber with the operator appended
+    /// @throws NullPointerException if next is `null`
+    /// @throws Fault                if next is not a runtime-provided implementation
+    /// @see Fiber#fiber(Fiber)
+    /// @since 3.0
+
+    @NotNull
+    LongFiber fiber (
+      @NotNull LongFiber next
+    );
+
+
+    /// Returns a fiber that passes only values for which the predicate holds. Stateless.
     ///
-    /// ```
-    /// emit(I) -> this flow (I -> O) -> window(count) -> Window<O> -> downstream
-    /// ```
+    /// @param predicate the predicate deciding which values pass
+    /// @return A fiber with the operator appended
+    /// @throws NullPointerException if predicate is `null`
+    /// @see Fiber#guard(Predicate)
+    /// @since 3.0
+
+    @NotNull
+    LongFiber guard (
+      @NotNull LongPredicate predicate
+    );
+
+
+    /// Returns a fiber that passes only values that are new running highs. The first emission always passes. Stateful.
     ///
-    /// ## Window Semantics
+    /// @return A fiber with the operator appended
+    /// @see Fiber#high(Comparator)
+    /// @since 3.0
+
+    @NotNull
+    LongFiber high ();
+
+
+    /// Returns a fiber that accumulates values and, when `fire` holds on the accumulator, emits it and
+    /// resets to `initial`. Stateful.
     ///
-    /// - A window is emitted after every surviving upstream `O` value.
-    /// - Each emitted window contains at most `count` values.
-    /// - Until `count` values have survived, the emitted window contains the
-    ///   available prefix.
-    /// - Root windows emitted here are never empty: the first surviving upstream
-    ///   value produces a one-element window.
-    /// - The emitted root window's encounter order is oldest to newest.
-    /// - Derived window views may define another encounter order; [Window]
-    ///   operations use the current view's encounter order.
-    /// - Emitted windows are temporal views over a worker-thread-local ring; a
-    ///   provider may reuse the same window object for later emissions.
-    /// - A window must be consumed during the receiving callback. Receptors and
-    ///   fibers must not store, emit, or pipe the window reference into another
-    ///   pipeline. Retain or forward copied values, not the window reference.
-    /// - The operator is stateful per materialization; attaching the same Flow
-    ///   more than once creates independent rolling windows.
+    /// @param initial     the starting and reset value of the accumulator
+    /// @param accumulator the operation `(state, input) -> new state`
+    /// @param fire        the predicate deciding when to emit and reset
+    /// @return A fiber with the operator appended
+    /// @throws NullPointerException if accumulator or fire is `null`
+    /// @see Fiber#integrate(Object, BinaryOperator, Predicate)
+    /// @since 3.0
+
+    @NotNull
+    LongFiber integrate (
+      long initial,
+      @NotNull LongBinaryOperator accumulator,
+      @NotNull LongPredicate fire
+    );
+
+
+    /// Returns a fiber that passes at most `limit` emissions, then blocks all subsequent values. Stateful.
     ///
-    /// There is intentionally no unbounded `window()` overload. Unbounded
-    /// history retention is a different policy and can exhaust memory under a
-    /// long-running or high-rate feed.
+    /// @param limit the maximum number of emissions to pass through (non-negative)
+    /// @return A fiber with the operator appended
+    /// @throws IllegalArgumentException if limit is negative
+    /// @see Fiber#limit(long)
+    /// @since 3.0
+
+    @NotNull
+    LongFiber limit (
+      long limit
+    );
+
+
+    /// Returns a fiber that passes only values that are new running lows. The first emission always passes. Stateful.
     ///
-    /// ## Lifetime Enforcement
+    /// @return A fiber with the operator appended
+    /// @see Fiber#low(Comparator)
+    /// @since 3.0
+
+    @NotNull
+    LongFiber low ();
+
+
+    /// Returns a fiber that passes only values at or below `max`. Stateless.
     ///
-    /// The callback-scoped lifetime of an emitted [Window] is enforced at
-    /// runtime: the next operator invoked on a view that escaped its
-    /// originating callback throws [Fault]. See [Window] for the full
-    /// rules. This means stale views — from `Fiber.diff()` on `Window<O>`,
-    /// from forwarding a `Pipe<Window<O>>`, or from storing the window in a
-    /// receptor field — fail loudly rather than returning silently incorrect
-    /// values.
+    /// @param max the inclusive upper bound
+    /// @return A fiber with the operator appended
+    /// @see Fiber#max(Object)
+    /// @since 3.0
+
+    @NotNull
+    LongFiber max (
+      long max
+    );
+
+
+    /// Returns a fiber that passes only values at or above `min`. Stateless.
     ///
-    /// @param count the maximum number of recent values retained per emitted window
-    /// @return A flow whose output is a bounded rolling [Window] of this flow's output values
-    /// @throws IllegalArgumentException if count is less than 1
-    /// @see Window
-    /// @see Flow#pipe(Pipe)
-    /// @see Fiber#rolling(int, BinaryOperator, Object)
-    /// @since 2.6
+    /// @param min the inclusive lower bound
+    /// @return A fiber with the operator appended
+    /// @see Fiber#min(Object)
+    /// @since 3.0
 
     @NotNull
-    Flow < I, Window < O > > window (
-      int count
+    LongFiber min (
+      long min
     );
 
 
-    /// Returns a flow that emits a rolling [Window] of the output values
-    /// observed within the last `duration`, limited to at most `capacity`
-    /// retained values.
+    /// Returns a fiber that invokes the receptor with each value, then passes the value downstream. Stateless.
     ///
-    /// `window(duration, capacity)` runs at the output side of this flow. Upstream
-    /// stages first transform and filter the incoming `I` emission into a
-    /// surviving `O`; old retained values are then evicted by processing time,
-    /// the new value is appended, and a temporal window view is emitted
-    /// downstream.
+    /// @param receptor the receptor invoked for each emission
+    /// @return A fiber with the operator appended
+    /// @throws NullPointerException if receptor is `null`
+    /// @see Fiber#peek(Receptor)
+    /// @since 3.0
+
+    @NotNull
+    LongFiber peek (
+      @NotNull LongReceptor receptor
+    );
+
+
+    /// Returns a `long` pipe that applies this fiber's operator chain ahead of the
+    /// supplied pipe, on that pipe's circuit.
     ///
-    /// ```
-    /// emit(I) -> this flow (I -> O) -> window(duration, capacity) -> Window<O> -> downstream
-    /// ```
+    /// When `pipe` is a [LongPipe], surviving values are forwarded through its
+    /// primitive `emit` and are never boxed; any other pipe receives a boxed value.
     ///
-    /// ## Window Semantics
+    /// @param pipe the pipe to prepend this fiber to
+    /// @return A pipe that applies this fiber before forwarding to `pipe`
+    /// @throws NullPointerException if pipe is `null`
+    /// @throws Fault                if the pipe is not a runtime-provided implementation
+    /// @see Fiber#pipe(Pipe)
+    /// @since 3.0
+
+    @New
+    @NotNull
+    LongPipe pipe (
+      @NotNull Pipe < ? super Long > pipe
+    );
+
+
+    /// Returns a fiber that passes only values within `[lower, upper]`. Stateless.
     ///
-    /// - A window is emitted after every surviving upstream `O` value.
-    /// - Each emitted window contains values observed no earlier than
-    ///   `duration` before the current emission's valve processing time.
-    /// - Each emitted window contains at most `capacity` values.
-    /// - Under high input rates, the capacity bound may evict older values that
-    ///   are still within the duration bound.
-    /// - Root windows emitted here are never empty: the current surviving
-    ///   upstream value is always included.
-    /// - The emitted root window's encounter order is oldest to newest.
-    /// - The processing timestamp is captured from the circuit worker, not from
-    ///   the external caller that submitted the value. It is the *stimulus time*
-    ///   of the ingress chain: every emission a single ingress (external, ticker,
-    ///   or cross-circuit) submission cascades into shares one reading, so internal
-    ///   cause-effect within a cascade is co-temporal. Time advances per ingress,
-    ///   not per internal transit hop.
-    /// - Emitted windows are temporal views over a worker-thread-local ring; a
-    ///   provider may reuse the same window object for later emissions.
-    /// - A window must be consumed during the receiving callback. Receptors and
-    ///   fibers must not store, emit, or pipe the window reference into another
-    ///   pipeline. Retain or forward copied values, not the window reference.
-    /// - The operator is stateful per materialization; attaching the same Flow
-    ///   more than once creates independent rolling windows.
+    /// @param lower the inclusive lower bound
+    /// @param upper the inclusive upper bound
+    /// @return A fiber with the operator appended
+    /// @throws IllegalArgumentException if `lower > upper`
+    /// @see Fiber#range(Object, Object)
+    /// @since 3.0
+
+    @NotNull
+    LongFiber range (
+      long lower,
+      long upper
+    );
+
+
+    /// Returns a fiber that folds each value into a running accumulator and emits the updated accumulator. Stateful.
     ///
-    /// There is intentionally no duration-only overload. Time retention is not a
-    /// memory bound; callers must choose an explicit capacity.
+    /// @param initial the starting accumulator value
+    /// @param op      the operation `(accumulator, input) -> new accumulator`
+    /// @return A fiber with the operator appended
+    /// @throws NullPointerException if op is `null`
+    /// @see Fiber#reduce(Object, BinaryOperator)
+    /// @since 3.0
+
+    @NotNull
+    LongFiber reduce (
+      long initial,
+      @NotNull LongBinaryOperator op
+    );
+
+
+    /// Returns a fiber that transforms each value via a unary operator. Stateless.
     ///
-    /// @param duration the processing-time duration retained by each emitted window
-    /// @param capacity the maximum number of recent values retained per emitted window
-    /// @return A flow whose output is a time-bounded and capacity-bounded rolling [Window]
-    /// @throws NullPointerException     if duration is `null`
-    /// @throws IllegalArgumentException if duration is zero, negative, or cannot be represented in nanoseconds
-    /// @throws IllegalArgumentException if capacity is less than 1
-    /// @see Window
-    /// @see #window(int)
-    /// @since 2.7
+    /// @param op the unary operator
+    /// @return A fiber with the operator appended
+    /// @throws NullPointerException if op is `null`
+    /// @see Fiber#replace(UnaryOperator)
+    /// @since 3.0
 
     @NotNull
-    Flow < I, Window < O > > window (
-      @NotNull Duration duration,
-      int capacity
+    LongFiber replace (
+      @NotNull LongUnaryOperator op
+    );
+
+
+    /// Returns a fiber that folds each value into a sliding window of `size` values and, once warmed up,
+    /// emits the window aggregate on each emission. The window is held in a
+    /// primitive ring allocated at materialization. Stateful.
+    ///
+    /// @param size     the sliding-window size (positive)
+    /// @param combiner the operation `(accumulator, input) -> new accumulator`
+    /// @param identity the fold identity
+    /// @return A fiber with the operator appended
+    /// @throws IllegalArgumentException if size is not positive
+    /// @throws NullPointerException     if combiner is `null`
+    /// @see Fiber#rolling(int, BinaryOperator, Object)
+    /// @since 3.0
+
+    @NotNull
+    LongFiber rolling (
+      int size,
+      @NotNull LongBinaryOperator combiner,
+      long identity
     );
 
-  }
 
+    /// Returns a fiber that drops the first `count` emissions and passes all subsequent values. Stateful.
+    ///
+    /// @param count the number of initial emissions to skip (non-negative)
+    /// @return A fiber with the operator appended
+    /// @throws IllegalArgumentException if count is negative
+    /// @see Fiber#skip(long)
+    /// @since 3.0
 
-  /// A unique identifier that distinguishes subject instances within a runtime.
-  ///
-  /// Each [Subject] has an associated [Id] that uniquely identifies that specific
-  /// subject instance. Two subjects with identical names but different instances will
-  /// have different Ids.
-  ///
-  /// ## Uniqueness Guarantees
-  ///
-  /// IDs are unique within a single JVM/runtime instance:
-  /// - Each subject instance receives a distinct [Id]
-  /// - IDs remain stable for the lifetime of the subject
-  /// - IDs are NOT guaranteed unique across JVM restarts or distributed processes
-  ///
-  /// ## Equality Semantics
-  ///
-  /// Marked with `@Identity`, [Id] implementations use **reference equality**:
-  /// - Two [Id] references are equal if and only if they refer to the same object
-  /// - Use `==` for comparison, not `.equals()`
-  /// - Hash codes are inherited from [Object] (identity hash code)
-  /// - This provides O(1) comparison performance
-  ///
-  /// ## Usage
-  ///
-  /// IDs are primarily used internally for subject tracking and discrimination. API
-  /// users typically rely on [Name] for hierarchical identification and subject
-  /// lookup. Use [Id] when you need to verify exact subject instance identity.
-  ///
-  /// ## Implementation Note
-  ///
-  /// This is a marker interface - the SPI provides concrete implementations. API users
-  /// never construct [Id] instances directly; they are obtained via [Subject#id()].
-  ///
-  /// @see Subject#id()
-  /// @see Name
-  /// @see Substrate
+    @NotNull
+    LongFiber skip (
+      long count
+    );
 
-  @Tenure ( Tenure.INTERNED )
-  @Provided
-  @Identity
-  @Immutable
-  interface Id {
-  }
 
-  /// Indicates a method expected to be idempotent.
-  @SuppressWarnings ( "WeakerAccess" )
-  @Documented
-  @Retention ( SOURCE )
-  @Target ( METHOD )
-  @interface Idempotent {
-  }
+    /// Returns a fiber that aggregates fixed-size batches of `size` values into single outputs; after
+    /// `size` values the accumulator is emitted and reset to `identity`. Stateful.
+    ///
+    /// @param size     the batch size (positive)
+    /// @param combiner the operation `(accumulator, input) -> new accumulator`
+    /// @param identity the fold identity
+    /// @return A fiber with the operator appended
+    /// @throws IllegalArgumentException if size is not positive
+    /// @throws NullPointerException     if combiner is `null`
+    /// @see Fiber#tumble(int, BinaryOperator, Object)
+    /// @since 3.0
 
-  /// Indicates a type whose instances can be compared by (object) reference for equality.
+    @NotNull
+    LongFiber tumble (
+      int size,
+      @NotNull LongBinaryOperator combiner,
+      long identity
+    );
 
-  @SuppressWarnings ( "WeakerAccess" )
-  @Documented
-  @Retention ( SOURCE )
-  @Target ( TYPE )
-  @interface Identity {
   }
 
-  /// Indicates a type whose API-visible state is fixed for the lifetime of an
-  /// instance.
-  ///
-  /// Immutable types do not expose mutation. Operations that appear to change
-  /// the value return either the same instance or another instance, leaving the
-  /// original unchanged. The annotation is shallow: values returned from a type
-  /// may have their own mutability unless the value type is also documented or
-  /// annotated as immutable.
-
-  @SuppressWarnings ( "WeakerAccess" )
-  @Documented
-  @Retention ( SOURCE )
-  @Target ( TYPE )
-  @interface Immutable {
-  }
 
   /// A name-indexed retrieval interface.
   ///
@@ -5399,6 +8287,21 @@ public interface Substrates {
   /// **Thread safety**: Name creation is thread-safe. Multiple threads can concurrently
   /// create names with the same path, and all will receive the same interned instance.
   ///
+  /// **Interning table**: Lookups in the interning table must not serialize callers:
+  /// finding an existing name is lock-free, and creating a missing one contends at
+  /// most with callers creating names under the same parent. The table holds names
+  /// weakly. A name stays interned while it is reachable — held by a pipe, conduit,
+  /// subject, another name it encloses, or application code — and an unreachable
+  /// name may be collected. A later request for the same path then interns a new
+  /// instance. This cannot be observed through identity, because no reference to
+  /// the collected instance remains to compare against, so applications that
+  /// generate many transient names do not grow the table without bound.
+  ///
+  /// **Hashing**: Wherever a provider hashes names — interning tables, name-keyed
+  /// pools, shard selection — it hashes [#fingerprint()], and a name's
+  /// `hashCode()` is `Long.hashCode ( fingerprint () )`. Hash-based structures
+  /// keyed by names therefore lay out the same way on every run.
+  ///
   /// **Depth limits**: Implementations may impose a maximum depth on name hierarchies.
   /// Exceeding this limit results in an [IllegalArgumentException].
   ///
@@ -5411,6 +8314,11 @@ public interface Substrates {
   /// **Comparison performance**: Name comparison is O(1) reference equality (==),
   /// not O(n) string comparison. This enables fast lookups in pools and maps.
   ///
+  /// **Cached metadata**: Because a name never changes after it is interned, its
+  /// [#depth()] is stored and its [#path()] is rendered at most once. Ancestor
+  /// checks with [#within(Extent)] reject by depth before walking, and
+  /// [#path(Appendable)] renders into a caller's buffer without allocating.
+  ///
   /// @see Subject#name()
   /// @see Extent
   /// @see Cortex#name(String)
@@ -5427,6 +8335,78 @@ public interface Substrates {
     char SEPARATOR = '.';
 
 
+    /// Returns the number of parts in this name, counting enclosing names.
+    ///
+    /// Overrides the default [Extent#depth()], which folds over the enclosure
+    /// chain: a name's depth is fixed when it is interned, so it is stored
+    /// rather than computed and this method is O(1). [#within(Extent)] and
+    /// [#stream()] rely on it.
+    ///
+    /// @return The depth of this name; `1` for a name with no enclosure
+
+    @Override
+    int depth ();
+
+
+    /// Returns a stable 64-bit fingerprint of this name's path.
+    ///
+    /// The fingerprint is a function of the path alone, specified exactly so
+    /// that it is identical across runs, processes, and providers. It suits
+    /// partitioning work across circuits (see [Plexus]), indexing off-heap or
+    /// external tables, and labelling persisted records — uses for which
+    /// identity hash codes and `String.hashCode()` are unstable or too weak.
+    ///
+    /// ## Algorithm
+    ///
+    /// The fingerprint is computed incrementally from the enclosure's:
+    ///
+    /// 1. Seed: the FNV-1a 64-bit offset basis `0xcbf29ce484222325` for a name
+    ///    with no enclosure; otherwise the enclosure's fingerprint, folded with
+    ///    the separator byte `'.'`.
+    /// 2. Fold each byte of the UTF-8 encoding of [#part()] into the seed with
+    ///    FNV-1a: `hash = ( hash ^ byte ) * 0x100000001b3L`.
+    /// 3. Finish with the `fmix64` avalanche step of MurmurHash3, so that low
+    ///    bits are usable directly as a shard or bucket index.
+    ///
+    /// The default method implements this definition by recursion. Providers
+    /// store the value when a name is interned, which makes this call O(1) and
+    /// interning a child O(length of its part). Implementations must return
+    /// exactly the value the default computes.
+    ///
+    /// Distinct paths may share a fingerprint; the finalized 64-bit value makes
+    /// this unlikely but not impossible, so external indexes that must be exact
+    /// should confirm a match against the path.
+    ///
+    /// @return The fingerprint of this name's path
+
+    default long fingerprint () {
+
+      final var enclosure =
+        enclosure ();
+
+      var hash =
+        enclosure.isPresent ()
+        ? ( enclosure.get ().fingerprint () ^ SEPARATOR ) * 0x100000001b3L
+        : 0xcbf29ce484222325L;
+
+      for ( final var b : part ().getBytes ( StandardCharsets.UTF_8 ) ) {
+
+        hash =
+          ( hash ^ ( b & 0xff ) ) * 0x100000001b3L;
+
+      }
+
+      hash ^= hash >>> 33;
+      hash *= 0xff51afd7ed558ccdL;
+      hash ^= hash >>> 33;
+      hash *= 0xc4ceb9fe1a85ec53L;
+      hash ^= hash >>> 33;
+
+      return hash;
+
+    }
+
+
     /// Returns a name that has this name as a direct or indirect prefix.
     /// Reuses interned segments so invoking this method with the same suffix
     /// yields the same instance.
@@ -5448,6 +8428,9 @@ public interface Substrates {
     /// end with `.` nor contain consecutive separators (for example: `.foo`,
     /// `foo.`, `foo..bar`).
     ///
+    /// Repeated extensions of the same name by the same path are served from the
+    /// parse cache described on [Cortex#name(String)].
+    ///
     /// @param path the string to be parsed and appended to this name
     /// @return A name with the path appended as one or more name parts
     /// @throws NullPointerException     if the path is `null`
@@ -5577,14 +8560,52 @@ public interface Substrates {
     /// Returns a `CharSequence` representation of this name, including enclosing names.
     /// Overrides the default [Extent#path()] to use the dot separator instead of '/'.
     ///
+    /// Names are immutable and interned, so the path is rendered once, on first
+    /// call, and the same `String` is returned thereafter. Routing and logging
+    /// code may call this per emission without allocating.
+    ///
     /// @return A non-`null` `CharSequence` representation with dot-delimited names.
+    /// @see #path(Appendable)
 
     @Override
     @NotNull
-    default CharSequence path () {
+    CharSequence path ();
 
-      return
-        path ( SEPARATOR );
+
+    /// Appends the dot-delimited path of this name to the supplied target.
+    ///
+    /// Equivalent to `target.append ( path () )`, and like [#path()] it does not
+    /// render the path again, so appending to a reused builder or writer does
+    /// not allocate on the name's side.
+    ///
+    /// @param target the appendable to receive the path
+    /// @param <A>    the type of the appendable
+    /// @return The supplied target
+    /// @throws NullPointerException  if the target is `null`
+    /// @throws UncheckedIOException  if the target throws an [IOException]
+
+    @NotNull
+    default < A extends Appendable > A path (
+      @NotNull final A target
+    ) {
+
+      requireNonNull ( target );
+
+      try {
+
+        target.append (
+          path ()
+        );
+
+      } catch (
+        final IOException e
+      ) {
+
+        throw new UncheckedIOException ( e );
+
+      }
+
+      return target;
 
     }
 
@@ -5597,53 +8618,304 @@ public interface Substrates {
     /// @throws NullPointerException if the mapper is `null`
 
     @NotNull
-    CharSequence path (
-      @NotNull Function < ? super String, ? extends CharSequence > mapper
+    CharSequence path (
+      @NotNull Function < ? super String, ? extends CharSequence > mapper
+    );
+
+  }
+
+  /// Indicates a method that allocates a new instance on invocation.
+  ///
+  /// Methods marked with this annotation create fresh objects rather than returning
+  /// cached or pooled instances. In performance-critical code, the result should be
+  /// hoisted outside hot loops to avoid repeated allocations.
+  ///
+  /// ## Conditional Allocation
+  ///
+  /// When [#conditional()] is `false` (the default), the method **always** allocates
+  /// a new instance. When `true`, allocation depends on input — the method may return
+  /// an existing instance when the operation would produce an equivalent result.
+  ///
+  /// For example, [State#state(Name, int)] returns `this` when an equal slot already
+  /// exists, avoiding allocation. Such methods are marked `@New(conditional = true)`.
+
+  @Documented
+  @Retention ( SOURCE )
+  @Target ( METHOD )
+  @interface New {
+
+    /// Whether allocation is conditional on the input.
+    ///
+    /// - `false` (default): Always allocates a new instance.
+    /// - `true`: May return an existing instance when the result would be equivalent.
+    ///
+    /// @return whether allocation is conditional
+
+    @SuppressWarnings ( "BooleanMethodIsAlwaysInverted" )
+    boolean conditional () default false;
+
+  }
+
+
+  /// Indicates a parameter should never be passed a null argument value
+
+  @Documented
+  @Retention ( SOURCE )
+  @Target ( {PARAMETER, METHOD, FIELD} )
+  @interface NotNull {
+  }
+
+  /// An immutable set of creation options for a [Circuit].
+  ///
+  /// Options are obtained from [Cortex#options()], refined through fluent
+  /// methods that each return a new instance, and passed to
+  /// [Cortex#circuit(Name, Options)]. Every option has a default, so a fresh
+  /// `Options` creates the same circuit as [Cortex#circuit(Name)]:
+  ///
+  /// ```java
+  /// var circuit =
+  ///   cortex.circuit (
+  ///     cortex.name ( "quotes" ),
+  ///     cortex.options ().idle ( 1_000, 100 )
+  ///   );
+  /// ```
+  ///
+  /// Options are values: they may be retained and shared across threads, and
+  /// one instance may configure many circuits.
+  ///
+  /// @see Cortex#options()
+  /// @see Cortex#circuit(Name, Options)
+  /// @since 3.0
+
+  @Tenure ( Tenure.EPHEMERAL )
+  @Immutable
+  @Provided
+  interface Options {
+
+    /// Returns options selecting the source of the circuit's processing time.
+    ///
+    /// The default is [Clock#SYSTEM].
+    ///
+    /// @param clock the processing-time source
+    /// @return Options with the clock replaced
+    /// @throws NullPointerException if clock is `null`
+    /// @see Clock
+
+    @NotNull
+    Options clock (
+      @NotNull Clock clock
+    );
+
+
+    /// Returns options with the given worker idle strategy.
+    ///
+    /// [Idle#BACKOFF] selected this way uses provider-default budgets. The
+    /// default strategy is [Idle#PARK].
+    ///
+    /// @param idle the idle strategy for the circuit worker
+    /// @return Options with the idle strategy replaced
+    /// @throws NullPointerException if idle is `null`
+    /// @see Idle
+
+    @NotNull
+    Options idle (
+      @NotNull Idle idle
+    );
+
+
+    /// Returns options selecting [Idle#BACKOFF] with explicit budgets.
+    ///
+    /// An idle worker calls [Thread#onSpinWait()] up to `spins` times, then
+    /// [Thread#yield()] up to `yields` times, then parks. New work found during
+    /// either phase is processed at once and the budgets restart when the
+    /// queues next drain. Both budgets zero is equivalent to [Idle#PARK].
+    ///
+    /// @param spins  the number of spin iterations before yielding (non-negative)
+    /// @param yields the number of yields before parking (non-negative)
+    /// @return Options with a backoff idle strategy
+    /// @throws IllegalArgumentException if either budget is negative
+    /// @see Idle#BACKOFF
+
+    @NotNull
+    Options idle (
+      int spins,
+      int yields
+    );
+
+
+    /// Returns options enabling the circuit's ingress journal.
+    ///
+    /// A journaled circuit appends a record for every emission it admits from
+    /// its ingress queue to an append-only log in `directory`. This includes
+    /// emissions from external callers and from other circuits. Each record
+    /// holds:
+    ///
+    /// - a sequence number, dense and increasing by one per record
+    /// - the processing time the emission observes (see [Circuit] — Time)
+    /// - the [Name] of the emitting pipe's source — the subject name of the
+    ///   conduit, sink, or other pool that owns the pipe, or of the circuit for
+    ///   a pipe the circuit owns directly
+    /// - the [Name] of the emitting pipe's subject
+    /// - the emission, encoded by `codec`
+    ///
+    /// Records are appended by the circuit worker when it dequeues the
+    /// emission, before dispatch, so journal order is processing order and the
+    /// caller's emit path is unchanged. Ticks, timer work, and transit
+    /// emissions are not journaled: ticks and timers are regenerated from
+    /// processing time, and transit emissions from the journaled inputs.
+    /// Topology operations (conduit creation, subscription) are not journaled
+    /// either; a replay rebuilds the topology in application code.
+    ///
+    /// ## Sources
+    ///
+    /// The source name keeps records of different sources apart when they share
+    /// channel names, so each source of a journaled circuit should have a
+    /// distinct name. Every record is encoded by the one `codec`: when sources
+    /// carry different emission types, the codec must encode values in a
+    /// self-describing form — for example behind a leading type tag — so that a
+    /// decoding codec recovers each value's type without knowing its source.
+    ///
+    /// ## Storage
+    ///
+    /// The journal is a sequence of fixed-size, memory-mapped segment files,
+    /// each named by the sequence number of its first record. A new segment is
+    /// started when a record does not fit in the current one; a record larger
+    /// than a segment raises a failure. If `directory` already holds a journal,
+    /// appending continues after its last complete record.
+    ///
+    /// Appends become visible in the mapped file immediately. Forcing to the
+    /// storage device is batched (group commit): the worker forces once at the
+    /// end of each drain cycle rather than once per record, so at most the
+    /// records of the cycle in progress can be lost to an operating-system
+    /// crash.
+    ///
+    /// ## Failure
+    ///
+    /// If `codec` throws for an emission, that emission is neither journaled nor
+    /// dispatched, and the failure is isolated as in SPEC §15.4; the journal
+    /// never records an emission the circuit did not process, and the circuit
+    /// never processes an emission it could not record. If the journal itself
+    /// fails (for example the device is full), the circuit continues processing
+    /// without it and reports the failure in its state.
+    ///
+    /// @param directory the directory holding the journal's segment files
+    /// @param codec     the codec encoding emission values
+    /// @return Options with the journal enabled
+    /// @throws NullPointerException if any argument is `null`
+    /// @see Codec
+
+    @NotNull
+    Options journal (
+      @NotNull Path directory,
+      @NotNull Codec < Object > codec
+    );
+
+
+    /// Returns options enabling the circuit's ingress journal with an explicit
+    /// segment size.
+    ///
+    /// Identical to [#journal(Path, Codec)] except that each segment file is
+    /// `segment` bytes rather than the provider default.
+    ///
+    /// @param directory the directory holding the journal's segment files
+    /// @param codec     the codec encoding emission values
+    /// @param segment   the size of each segment file in bytes; must be positive
+    /// @return Options with the journal enabled
+    /// @throws NullPointerException     if directory or codec is `null`
+    /// @throws IllegalArgumentException if segment is not positive
+    /// @see #journal(Path, Codec)
+
+    @NotNull
+    Options journal (
+      @NotNull Path directory,
+      @NotNull Codec < Object > codec,
+      long segment
+    );
+
+
+    /// Returns options enabling the circuit's latency recorder.
+    ///
+    /// When enabled, the worker records two durations for every ingress job
+    /// into fixed-size log-linear histograms:
+    ///
+    /// - **queue** — from admission to the ingress queue until the job is dequeued
+    /// - **service** — from dequeue until the job and its transit cascade complete
+    ///
+    /// Histogram memory is allocated when the circuit is created and recording
+    /// never allocates. Values are bucketed with a relative error of at most
+    /// 1/32 and saturate at the top of the histogram's range.
+    ///
+    /// Every `interval` the circuit publishes the recorded quantiles as a
+    /// [State] to the circuit's subscribers (see [Circuit] — Circuit State) and
+    /// starts a new recording interval. Each published state describes the jobs
+    /// completed during that interval only. The recorder is disabled by default.
+    ///
+    /// @param interval the publication interval; must be positive
+    /// @return Options with the latency recorder enabled
+    /// @throws NullPointerException     if interval is `null`
+    /// @throws IllegalArgumentException if interval is zero or negative
+    /// @see Pulse
+
+    @NotNull
+    Options latency (
+      @NotNull Duration interval
+    );
+
+
+    /// Returns options restoring circuit-owned state from a checkpoint.
+    ///
+    /// The checkpoint is read when the circuit is created, and its entries are
+    /// applied as the application rebuilds the circuit's state holders: each
+    /// [Cell], [Port], [Pin], and [Basin], and each stateful operator
+    /// materialization, takes the checkpointed state at creation in place of its
+    /// initial state. Entries are matched by the owning subject's name path
+    /// together with the holder's creation ordinal under that path, so the
+    /// topology must be rebuilt in the order it was built when the checkpoint
+    /// was taken. A holder with no matching entry starts from its initial
+    /// state; entries that are never matched are ignored.
+    ///
+    /// A [Clock#MANUAL] circuit starts at the checkpoint's processing time. A
+    /// journaled circuit continues its journal; restoring does not itself
+    /// append to it.
+    ///
+    /// @param file  the checkpoint file written by [Circuit#checkpoint(Path, Codec)]
+    /// @param codec the codec decoding state values
+    /// @return Options restoring from the checkpoint
+    /// @throws NullPointerException if any argument is `null`
+    /// @see Checkpoint
+
+    @NotNull
+    Options restore (
+      @NotNull Path file,
+      @NotNull Codec < Object > codec
     );
 
-  }
-
-  /// Indicates a method that allocates a new instance on invocation.
-  ///
-  /// Methods marked with this annotation create fresh objects rather than returning
-  /// cached or pooled instances. In performance-critical code, the result should be
-  /// hoisted outside hot loops to avoid repeated allocations.
-  ///
-  /// ## Conditional Allocation
-  ///
-  /// When [#conditional()] is `false` (the default), the method **always** allocates
-  /// a new instance. When `true`, allocation depends on input — the method may return
-  /// an existing instance when the operation would produce an equivalent result.
-  ///
-  /// For example, [State#state(Name, int)] returns `this` when an equal slot already
-  /// exists, avoiding allocation. Such methods are marked `@New(conditional = true)`.
-
-  @Documented
-  @Retention ( SOURCE )
-  @Target ( METHOD )
-  @interface New {
 
-    /// Whether allocation is conditional on the input.
+    /// Returns options setting the resolution of the circuit's timer.
     ///
-    /// - `false` (default): Always allocates a new instance.
-    /// - `true`: May return an existing instance when the result would be equivalent.
+    /// With a resolution, the circuit's timer advances in ticks of `resolution`
+    /// and reads the clock once per tick; temporal operators observe the tick
+    /// time rather than reading the clock per ingress job. Tickers fire at the
+    /// first timer tick at or after each grid point. Coarser resolutions make
+    /// time-aware operators cheaper at the cost of timing precision.
     ///
-    /// @return whether allocation is conditional
+    /// By default no resolution is set and processing time is read once per
+    /// ingress job.
+    ///
+    /// @param resolution the timer tick duration; must be positive
+    /// @return Options with the timer resolution set
+    /// @throws NullPointerException     if resolution is `null`
+    /// @throws IllegalArgumentException if resolution is zero, negative, or cannot be represented in nanoseconds
+    /// @see Circuit
 
-    @SuppressWarnings ( "BooleanMethodIsAlwaysInverted" )
-    boolean conditional () default false;
+    @NotNull
+    Options resolution (
+      @NotNull Duration resolution
+    );
 
   }
 
 
-  /// Indicates a parameter should never be passed a null argument value
-
-  @Documented
-  @Retention ( SOURCE )
-  @Target ( {PARAMETER, METHOD, FIELD} )
-  @interface NotNull {
-  }
-
   /// A circuit-owned, initialized state handle that grants immediate read/write
   /// access confined to the owning circuit context.
   ///
@@ -5805,6 +9077,13 @@ public interface Substrates {
   /// - Avoid I/O or blocking in hot pipes
   /// - Keep `emit()` logic simple and allocation-free
   ///
+  /// Producers that already hold several emissions for the same pipe should submit
+  /// them with [#emit(Object\[\],int,int)]. The batch pays the ingress admission cost
+  /// (queue synchronization and worker wake-up) once rather than once per element.
+  ///
+  /// Emissions on a conduit channel that nothing can observe are dropped on the caller
+  /// thread without admission; see [Conduit] — Quiet Channels.
+  ///
   /// The circuit thread is the bottleneck (single-threaded, processes all events sequentially).
   /// Balance work between caller threads (before enqueue) and circuit thread (after dequeue).
   ///
@@ -5870,6 +9149,254 @@ public interface Substrates {
       @NotNull E emission
     );
 
+
+    /// Emits a contiguous range of an array as a single ingress unit.
+    ///
+    /// Observationally equivalent to calling [#emit(Object)] for each element of
+    /// `emissions[offset .. offset + length)` in array order from one thread, with
+    /// one additional guarantee: the batch is admitted to the circuit as a single
+    /// contiguous unit, so no emission from another caller is interleaved between
+    /// its elements. Each element is still dispatched as its own emission — the
+    /// transit cascade triggered by one element completes before the next element
+    /// is dispatched, and downstream receptors cannot tell a batched emission from
+    /// an individual one.
+    ///
+    /// Admission cost (queue synchronization, worker wake-up) is paid once per
+    /// batch rather than once per element, which is the reason to prefer this form
+    /// when a producer already holds several values for the same pipe.
+    ///
+    /// ## Validation
+    ///
+    /// Arguments are validated synchronously, before anything is enqueued. A batch
+    /// is either admitted whole or rejected whole: a `null` array, a `null` element
+    /// within the range, or an out-of-bounds range throws and emits nothing. A
+    /// `length` of zero is a no-op.
+    ///
+    /// ## Array Ownership
+    ///
+    /// The elements are copied out of the array during the call. The caller may
+    /// reuse or mutate the array as soon as this method returns.
+    ///
+    /// Called from the circuit's own thread, the batch is appended to the transit
+    /// queue in array order, exactly as individual cascading emissions would be.
+    ///
+    /// @param emissions the array holding the values to be emitted
+    /// @param offset    the index of the first value to emit
+    /// @param length    the number of values to emit
+    /// @throws NullPointerException      if `emissions` or any element in the range is `null`
+    /// @throws IndexOutOfBoundsException if the range is out of bounds for the array
+    /// @see #emitAll(Iterable)
+    /// @since 3.0
+
+    @Queued
+    void emit (
+      @NotNull E[] emissions,
+      int offset,
+      int length
+    );
+
+
+    /// Emits every value of an iterable as a single ingress unit.
+    ///
+    /// The iterable form of [#emit(Object\[\],int,int)], with the same
+    /// contiguity and all-or-nothing validation: the values are admitted in
+    /// iteration order as one unit, and if any value is `null`, nothing is
+    /// emitted. An empty iterable is a no-op.
+    ///
+    /// The values are copied element by element into the ingress unit during
+    /// the call; no `E[]` is constructed on the caller's behalf, so the array
+    /// form only ever receives arrays supplied by its own callers.
+    ///
+    /// @param emissions the values to be emitted, in order
+    /// @throws NullPointerException if `emissions` or any of its values is `null`
+    /// @see #emit(Object[], int, int)
+    /// @since 3.0
+
+    @Queued
+    void emitAll (
+      @NotNull Iterable < ? extends E > emissions
+    );
+
+  }
+
+
+  /// A fixed group of circuits that partitions work by name.
+  ///
+  /// A single circuit processes its emissions sequentially on one thread;
+  /// parallelism comes from spreading work across circuits. A plexus performs
+  /// that partitioning: it owns `size` shard circuits and assigns every name
+  /// to exactly one of them through [#circuit(Name)]. Because the assignment is
+  /// a pure function of the name, all work for a given name lands on the same
+  /// shard, so per-name ordering is exactly that of a single circuit while
+  /// distinct names proceed in parallel across cores.
+  ///
+  /// ## Shard Assignment
+  ///
+  /// The shard for a name is
+  /// `Long.remainderUnsigned ( name.fingerprint (), size )` (see
+  /// [Name#fingerprint()]). The function depends only on the name's path and
+  /// the plexus size, so it is identical across runs, processes, and providers
+  /// — a prerequisite for replaying a partitioned workload. It does not depend
+  /// on which names were seen before, and it never rebalances.
+  ///
+  /// ## Pools
+  ///
+  /// [#pool(Function)] builds a name-indexed facade over the shards. The
+  /// factory is invoked once per shard, in shard order, and typically creates
+  /// and wires a conduit on that shard:
+  ///
+  /// ```java
+  /// var plexus = cortex.plexus ( cortex.name ( "ingest" ), 8 );
+  ///
+  /// Pool < Pipe < Reading > > readings =
+  ///   plexus.pool (
+  ///     circuit -> {
+  ///       var conduit = circuit.conduit ( Reading.class );
+  ///       conduit.subscribe ( circuit.subscriber ( name, wiring ) );
+  ///       return conduit;
+  ///     }
+  ///   );
+  ///
+  /// readings.get ( sensor ).emit ( reading );   // routed to sensor's shard
+  /// ```
+  ///
+  /// `get(name)` on the facade delegates to the pool built for the shard that
+  /// owns `name`, so the returned pipe belongs to that shard's circuit and the
+  /// facade can stand in wherever a single conduit's pool was used.
+  ///
+  /// ## What a Plexus Does Not Provide
+  ///
+  /// There is no ordering between names owned by different shards, and a
+  /// subscriber remains bound to a single circuit. Work that must observe
+  /// several names in one order has to place those names on one shard, or
+  /// be fanned in through [Circuit#pipe(Pipe)].
+  ///
+  /// ## Lifecycle
+  ///
+  /// Closing the plexus closes every shard circuit. The shards are ordinary
+  /// circuits and may also be used directly through [#circuits()].
+  ///
+  /// @see Cortex#plexus(Name, int)
+  /// @see Circuit
+  /// @since 3.0
+
+  @Tenure ( Tenure.EPHEMERAL )
+  @Provided
+  interface Plexus
+    extends Resource < Plexus > {
+
+    /// Blocks until every operation enqueued on any shard before this call has
+    /// been processed.
+    ///
+    /// Equivalent to calling [Circuit#await()] on each shard in shard order. It
+    /// is a barrier per shard, not a global snapshot: work that shards emit into
+    /// one another after their own barrier has passed is not waited on.
+    ///
+    /// @throws IllegalStateException if called from within any shard's thread
+    /// @see Circuit#await()
+
+    void await ();
+
+
+    /// Returns a stage that completes once every shard has reached a barrier
+    /// enqueued by this call.
+    ///
+    /// The non-blocking form of [#await()]: one [Circuit#awaitAsync()] token is
+    /// enqueued per shard and the returned stage completes when all of them
+    /// have. The completion thread is the circuit thread of the last shard to
+    /// reach its token.
+    ///
+    /// @return A stage completing when every shard's barrier is reached
+    /// @see Circuit#awaitAsync()
+    /// @since 3.0
+
+    @NotNull
+    CompletionStage < Void > awaitAsync ();
+
+
+    /// Returns the shard circuit that owns the given name.
+    ///
+    /// @param name the name to assign
+    /// @return The shard circuit owning `name`
+    /// @throws NullPointerException if name is `null`
+
+    @NotNull
+    default Circuit circuit (
+      @NotNull final Name name
+    ) {
+
+      requireNonNull ( name );
+
+      final var circuits =
+        circuits ();
+
+      return
+        circuits.get (
+          (int) Long.remainderUnsigned (
+            name.fingerprint (),
+            circuits.size ()
+          )
+        );
+
+    }
+
+
+    /// Returns the shard circuits in shard order.
+    ///
+    /// The list is unmodifiable and its contents never change; shard `i` is
+    /// named by extending the plexus name with the segment `i`.
+    ///
+    /// @return The unmodifiable, ordered list of shard circuits
+
+    @NotNull
+    List < Circuit > circuits ();
+
+
+    /// Closes every shard circuit.
+    ///
+    /// Each shard follows [Circuit#close()]; the call returns without waiting
+    /// for the shards to drain.
+    ///
+    /// @see Circuit#close()
+
+    @Queued
+    @Idempotent
+    @Override
+    void close ();
+
+
+    /// Returns a name-indexed pool that routes each name to its shard.
+    ///
+    /// `factory` is invoked on the calling thread once per shard, in shard
+    /// order, before this method returns. `get(name)` on the returned pool
+    /// delegates to the pool produced for the shard owning `name`, so
+    /// identity, caching, and creation semantics are those of the shard pools.
+    ///
+    /// @param factory the function creating the pool served by one shard circuit
+    /// @param <T>     the type of instances returned by the pool
+    /// @return A pool that routes each name to the owning shard's pool
+    /// @throws NullPointerException if factory is `null` or returns `null`
+    /// @throws Fault                if this plexus has been closed
+
+    @New
+    @NotNull
+    < T > Pool < T > pool (
+      @NotNull Function < ? super Circuit, ? extends Pool < ? extends T > > factory
+    );
+
+
+    /// Returns an aggregate snapshot of the shards' current state.
+    ///
+    /// The snapshot combines the most recent state of every shard: numeric slots
+    /// present on several shards are summed, and any other slot is taken from the
+    /// lowest-numbered shard that carries it. A slot named `size` holds the
+    /// number of shards.
+    ///
+    /// @return An aggregate state snapshot across all shards
+
+    @NotNull
+    State state ();
+
   }
 
 
@@ -6162,7 +9689,11 @@ public interface Substrates {
   /// possibly negative — meaningful only for difference arithmetic, never as absolute
   /// instants.
   ///
+  /// For continuous measurement of queue wait and service time across all
+  /// jobs, enable the circuit's latency recorder instead of polling pulses.
+  ///
   /// @see Circuit#pulse()
+  /// @see Options#latency(Duration)
   /// @since 2.4
 
   @Tenure ( Tenure.EPHEMERAL )
@@ -6631,6 +10162,75 @@ public interface Substrates {
   }
 
 
+  /// The outcome of a [Circuit#replay(Journal, Function, long, long)] run.
+  ///
+  /// All readings are taken by the replaying thread. [#elapsed()] spans from
+  /// the start of the call until the last replayed record had been processed,
+  /// so [#rate()] reports end-to-end replay throughput, not only admission.
+  ///
+  /// @see Circuit#replay(Journal, Function, long, long)
+  /// @since 3.0
+
+  @Tenure ( Tenure.EPHEMERAL )
+  @Immutable
+  @Provided
+  interface Replay {
+
+    /// Returns the number of bytes of record payload read.
+    ///
+    /// @return the payload bytes read
+
+    long bytes ();
+
+
+    /// Returns the nanoseconds from the start of the replay until the last
+    /// replayed record had been processed.
+    ///
+    /// @return the elapsed time in nanoseconds
+
+    long elapsed ();
+
+
+    /// Returns the sequence number of the first replayed record.
+    ///
+    /// @return the first replayed sequence, or `last() + 1` if nothing was replayed
+
+    long first ();
+
+
+    /// Returns the sequence number of the last replayed record.
+    ///
+    /// @return the last replayed sequence
+
+    long last ();
+
+
+    /// Returns the replay throughput in records per second.
+    ///
+    /// @return `records()` divided by `elapsed()` in seconds, or `0` if nothing was replayed
+
+    default double rate () {
+
+      final var elapsed =
+        elapsed ();
+
+      return
+        elapsed > 0L
+        ? records () * 1_000_000_000.0 / elapsed
+        : 0.0;
+
+    }
+
+
+    /// Returns the number of records replayed.
+    ///
+    /// @return the number of records replayed
+
+    long records ();
+
+  }
+
+
   /// A lifecycle interface for explicitly releasing resources and terminating operations.
   ///
   /// Resource represents objects with explicit cleanup requirements - sources,
@@ -6644,6 +10244,8 @@ public interface Substrates {
   ///   and, for [Circuit], stops the processing thread
   /// - **[Subscriber]**: Cascades close to active subscriptions
   /// - **[Subscription]**: Unregisters subscriber, removes pipes from channels
+  /// - **[Plexus]**: Closes its shard circuits
+  /// - **[Link]**: Flushes pending emissions and restores ordinary cross-circuit emission
   ///
   /// Resource is intentionally non-sealed so implementations can share lifecycle
   /// machinery internally or expose additional closeable substrate resources where
@@ -7255,7 +10857,12 @@ public interface Substrates {
   /// ## Lazy Rebuild Synchronization
   ///
   /// Sources use a **lazy rebuild** mechanism to synchronize subscription changes:
-  /// - When subscriptions are added or removed, a version counter is incremented
+  /// - When subscriptions are added or removed, the circuit thread advances the
+  ///   source's **applied** version as the change takes effect; this is the
+  ///   version channels cache and compare
+  /// - The requesting thread also increments an **issued** version before it
+  ///   enqueues the change, so callers can tell whether changes are pending (see
+  ///   [Conduit] — Quiet Channels)
   /// - Pipes detect version changes on their next emission
   /// - Pipes rebuild their subscriber lists only when needed (lazy evaluation)
   /// - This avoids blocking emissions during subscription changes
@@ -7264,13 +10871,34 @@ public interface Substrates {
   /// all channels. Each channel discovers the change on its next emission and rebuilds
   /// its pipe list. This provides lock-free operation and minimal coordination overhead.
   ///
+  /// **Incremental rebuild**: A rebuild applies only what changed since the
+  /// channel's cached version. Each applied version step records the
+  /// subscription it added or removed; a channel catching up appends the pipes of added
+  /// subscriptions (invoking their subscriber callbacks) and drops the pipes of
+  /// removed ones, keeping the pipes of every other subscription as they are.
+  /// When a channel has fallen further behind than the retained change log, it
+  /// rebuilds its list from the live subscriptions instead. Both paths produce
+  /// the same list: pipes in subscription registration order, and no subscriber
+  /// callback repeated for a subscription that has already seen the channel.
+  /// Under subscription churn, a hot channel's rebuild therefore costs time
+  /// proportional to the churn, not to the number of subscriptions.
+  ///
+  /// **Specialized dispatch**: Because a rebuild replaces a channel's whole pipe
+  /// list, the rebuilt dispatcher may be specialized to the number of pipes it
+  /// holds — a no-op when there are none, a direct call for one, an unrolled
+  /// pair for two, and an array walk beyond that. Under [Routing#STEM] each
+  /// ancestor's list is specialized independently. Specialization never changes
+  /// what is dispatched: pipes receive the emission in registration order,
+  /// exactly once per registration, as with a general list.
+  ///
   /// ## Core Implementations
   ///
   /// Concrete types that implement Source:
   ///
   /// - **[Circuit]**: The central processing engine managing event flow with ordering
   ///       guarantees. Supports subscription for [State] values representing circuit
-  ///       lifecycle and status (emission is implementation-dependent; see SPEC §7.1.1).
+  ///       lifecycle and status (emission is implementation-dependent; see SPEC §7.1.1),
+  ///       and periodic latency quantiles when [Options#latency(Duration)] is enabled.
   /// - **[Conduit]**: Pipe pool factory that emits events and manages channel lifecycle.
   /// - **[Tap]**: Combines a pipe and source for advanced data flow patterns.
   ///
@@ -7497,6 +11125,74 @@ public interface Substrates {
     );
 
 
+    /// Subscribes a [Subscriber] to the channels under a name prefix.
+    ///
+    /// Identical to [#subscribe(Subscriber)] except that the subscriber is
+    /// called back only for channels whose subject name is `prefix` itself or
+    /// lies within it (see [Name#within(Extent)]). Subscribing to
+    /// `cortex.name ( "app.db" )` observes `app.db`, `app.db.pool`, and
+    /// `app.db.pool.wait`, but not `app.dbx` or `app`. Unlike [Routing#STEM], a
+    /// prefix subscription changes only which channels this subscriber sees,
+    /// not how any emission is dispatched.
+    ///
+    /// ## Indexing
+    ///
+    /// Prefix subscriptions are indexed by name: a channel's rebuild resolves
+    /// the prefix subscriptions that match it by walking its own name, in time
+    /// proportional to the name's depth, and invokes only their subscribers.
+    /// Subscriptions that do not match are never called back for the channel,
+    /// so a subscriber that observes one subtree costs nothing during the
+    /// rebuilds of channels outside it. Unrestricted subscriptions registered
+    /// with [#subscribe(Subscriber)] still see every channel.
+    ///
+    /// Callbacks for a channel occur in subscription registration order across
+    /// both kinds of subscription, and the visibility window, threading, and
+    /// circuit-affinity rules are those of [#subscribe(Subscriber)].
+    ///
+    /// @param prefix     the name whose subtree of channels the subscriber observes
+    /// @param subscriber the subscriber to receive lazy callbacks during channel rebuild
+    /// @return A subscription handle for controlling future callback delivery
+    /// @throws NullPointerException if prefix or subscriber is `null`
+    /// @throws Fault                if prefix is not a runtime-provided implementation, or for any reason [#subscribe(Subscriber)] would raise one
+    /// @see #subscribe(Subscriber)
+    /// @see #subscribe(Name, Subscriber, Consumer)
+    /// @since 3.0
+
+    @New
+    @NotNull
+    @Queued
+    Subscription subscribe (
+      @NotNull Name prefix,
+      @NotNull Subscriber < E > subscriber
+    );
+
+
+    /// Subscribes a [Subscriber] to the channels under a name prefix, with an
+    /// atomic close-notification callback.
+    ///
+    /// Combines [#subscribe(Name, Subscriber)] with the `onClose` guarantees of
+    /// [#subscribe(Subscriber, Consumer)].
+    ///
+    /// @param prefix     the name whose subtree of channels the subscriber observes
+    /// @param subscriber the subscriber to receive lazy callbacks during channel rebuild
+    /// @param onClose    callback invoked on the circuit thread when the subscription termination is processed; at most once per subscription
+    /// @return A subscription handle for controlling future callback delivery
+    /// @throws NullPointerException if any argument is `null`
+    /// @throws Fault                if prefix is not a runtime-provided implementation, or for any reason [#subscribe(Subscriber, Consumer)] would raise one; on rejection the supplied `onClose` callback is NOT invoked
+    /// @see #subscribe(Name, Subscriber)
+    /// @see #subscribe(Subscriber, Consumer)
+    /// @since 3.0
+
+    @New
+    @NotNull
+    @Queued
+    Subscription subscribe (
+      @NotNull Name prefix,
+      @NotNull Subscriber < E > subscriber,
+      @NotNull @Queued Consumer < ? super Subscription > onClose
+    );
+
+
     /// Creates a tap into this source that transforms emissions via a pipe function.
     ///
     /// A Tap follows the structure of this source — channels and subject
@@ -8305,7 +12001,9 @@ public interface Substrates {
   /// or exist only while externally referenced:
   ///
   /// - **INTERNED**: Instances are pooled/cached by key. Same key returns same instance.
-  ///   The owning container maintains a reference (memory footprint in container).
+  ///   The owning container may hold its reference strongly (memory footprint in container)
+  ///   or weakly, letting an instance that is no longer referenced elsewhere be collected
+  ///   and re-created on the next request for its key.
   ///
   /// - **EPHEMERAL**: Instances are not retained by the creator. Each creation is independent.
   ///   Only caller references keep them alive (reference-counting style lifecycle).
@@ -8335,10 +12033,12 @@ public interface Substrates {
   @Target ( TYPE )
   @interface Tenure {
 
-    /// Instance is pooled by key. Same key returns same instance.
-    /// The owning container maintains a reference (memory footprint).
+    /// Instance is pooled by key. Same key returns same instance while any
+    /// reference to it remains. The owning container may retain it strongly
+    /// (memory footprint) or weakly (collected once unreachable, re-created on
+    /// the next request for its key).
     ///
-    /// Examples: [Name] (interned)
+    /// Examples: [Name] (interned weakly)
     int INTERNED = 1;
 
     /// Instance is not cached by creator. Each creation is independent.
@@ -8372,8 +12072,9 @@ public interface Substrates {
   ///
   /// ## Emission Origin
   ///
-  /// A ticker is a circuit-internal mechanism: its scheduling thread is an
-  /// implementation detail and is never surfaced to the application. Tick
+  /// A ticker is a circuit-internal mechanism: it is an entry on the owning
+  /// circuit's timer, and the timer's scheduling is an implementation detail
+  /// never surfaced to the application. Tick
   /// emissions are therefore attributed to the **owning circuit**, not to the
   /// scheduler — a tick into a same-circuit target reports [Capture#current()]
   /// equal to the owner's [Circuit#current()], exactly as a cascade does; a tick
@@ -8850,6 +12551,74 @@ public interface Substrates {
   }
 
 
+  /// Selects the source of a circuit's processing time.
+  ///
+  /// Processing time drives every temporal behaviour of a circuit: [Ticker]
+  /// grid points and the elapsed-time checks of operators such as
+  /// [Fiber#every(Duration)], [Fiber#heartbeat(Duration)], and
+  /// [Flow#window(Duration, int)]. Diagnostics that measure the circuit itself —
+  /// [Pulse] readings, the latency recorder, timed [Circuit#await(Duration)] —
+  /// always use real time.
+  ///
+  /// @see Options#clock(Clock)
+  /// @see Circuit#advance(Duration)
+  /// @since 3.0
+
+  enum Clock {
+
+    /// Processing time follows [System#nanoTime()]. This is the default.
+
+    SYSTEM,
+
+    /// Processing time starts at zero and moves only when [Circuit#advance(Duration)]
+    /// is processed. The circuit never reads a real clock for processing time,
+    /// so a sequence of emissions and advances — for example one replayed from
+    /// a journal, with advances taken from the recorded timestamps — produces the
+    /// same temporal output on every run, at whatever speed the worker can
+    /// process it.
+
+    MANUAL
+
+  }
+
+
+  /// Selects how a circuit's worker waits when its queues are empty.
+  ///
+  /// The choice trades CPU for dispatch latency. A parked worker costs nothing
+  /// while idle but must be unparked by the next submission, which adds wake-up
+  /// latency between `enqueued` and `dequeued` in a [Pulse]. A spinning worker
+  /// notices new work almost immediately but occupies a core while idle.
+  ///
+  /// The strategy affects timing only. Ordering, confinement, and every other
+  /// circuit guarantee are the same under all strategies.
+  ///
+  /// @see Options#idle(Idle)
+  /// @see Options#idle(int, int)
+  /// @since 3.0
+
+  enum Idle {
+
+    /// The worker parks as soon as both queues are empty and is unparked by the
+    /// next submission. Lowest idle cost; this is the default.
+
+    PARK,
+
+    /// The worker first spins (calling [Thread#onSpinWait()]), then yields,
+    /// then parks, each phase bounded by an iteration budget. Work arriving
+    /// during the spin or yield phase is picked up without a wake-up. Budgets
+    /// are provider defaults unless set through [Options#idle(int, int)].
+
+    BACKOFF,
+
+    /// The worker runs on a dedicated platform thread and busy-spins without
+    /// ever parking. Lowest dispatch latency; permanently occupies one core
+    /// while the circuit is open.
+
+    SPIN
+
+  }
+
+
   /// Controls how emissions are dispatched within a conduit.
   ///
   /// When creating a conduit via [Circuit#conduit(Class, Routing)], the routing
@@ -8876,6 +12645,24 @@ public interface Substrates {
     /// Ancestor channels are created lazily if they do not already exist and
     /// do not require pipes — they serve purely as subscriber attachment
     /// points for hierarchical observation.
+    ///
+    /// ## Ancestor Chains
+    ///
+    /// A channel's ancestors do not change, so the walk need not be repeated per
+    /// emission. When a leaf channel rebuilds (see [Source] — Lazy Rebuild
+    /// Synchronization), it creates any missing ancestors, rebuilds each one, and
+    /// caches a flattened array of the dispatchers to visit, leaf-first. The
+    /// array is revalidated by the same source version as the leaf's own pipe
+    /// list, so a subscription change anywhere in the conduit rebuilds it on the
+    /// leaf's next emission, and in the meantime an emission costs one version
+    /// check and an array walk regardless of name depth.
+    ///
+    /// Ancestors whose rebuild registered no pipes are omitted from the array.
+    /// Dispatching to them is unobservable, so this changes cost, not behaviour:
+    /// subscriber callbacks still see every ancestor channel when it is first
+    /// rebuilt, and ancestors that gain pipes rejoin the array on the next
+    /// rebuild. A leaf whose array is empty and which has no pipes of its own
+    /// is quiet (see [Conduit] — Quiet Channels).
 
     STEM
 